@@ -0,0 +1,569 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates a large synthetic dataset for load and capacity tests
+ *
+ * ? Scales users, events, event categories, inscriptions and results on top of
+ * ? the migrated schema and 02_TappedOut-InitialData.sql (sports and categories
+ * ? are read from the initial data, generated IDs continue after its users and events)
+ * ? Distributions:
+ * ?   - Users: 70% male, ~1% organizers, ages mostly 16-35 with kids and veterans,
+ * ?     cities with a Zipf spread (a few big cities hold most users)
+ * ?   - Events: weighted by sport, Zipf spread by organizer and city, from 3 years ago
+ * ?     to 1 year ahead (status derived from the dates)
+ * ?   - Inscriptions: power-law spread per event (few huge events, a long tail of small ones),
+ * ?     with a category matching the competitor gender and age when the event offers one
+ * ?   - Results: podium (up to 3 positions) of every category of the completed events
+ * ! Runs without a build, from BBDD_MySQL: java -Dfile.encoding=UTF-8 generator/DatasetGenerator.java [options]
+ *
+ * Options:
+ *   --users N          users to generate (default 100000)
+ *   --events N         events to generate (default users / 50)
+ *   --inscriptions N   inscriptions to generate (default users * 5)
+ *   --format tsv|sql   LOAD DATA files + load.sql (default) or batched multi-row INSERTs
+ *   --batch N          rows per INSERT with --format sql (default 1000)
+ *   --seed N           random seed, same seed same dataset (default 42)
+ *   --initial-data F   initial data script (default 02_TappedOut-InitialData.sql)
+ *   --out DIR          output directory (default generated)
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public class DatasetGenerator {
+    // * BCrypt of "password123", every generated user can log in with it
+    private static final String PASSWORD_HASH = "$2a$10$M.gFnZJXtMA/cvHzFw2O8OmiXnTdiMsHI3eAJ7KBm5nR0nClOYhOO";
+
+    private static final long GENDER_MALE = 1, GENDER_FEMALE = 2;
+
+    private static final long TYPE_COMPETITOR = 1, TYPE_ORGANIZER = 2;
+
+    private static final String DNI_LETTERS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[][] CITIES = {
+        {"Spain", "Madrid"}, {"Spain", "Barcelona"}, {"Brazil", "Rio de Janeiro"}, {"USA", "Los Angeles"},
+        {"Spain", "Valencia"}, {"Brazil", "Sao Paulo"}, {"USA", "New York"}, {"Spain", "Sevilla"},
+        {"Portugal", "Lisboa"}, {"Spain", "Vigo"}, {"Spain", "A Coruña"}, {"Italy", "Rome"},
+        {"France", "Paris"}, {"Spain", "Bilbao"}, {"Mexico", "Ciudad de Mexico"}, {"USA", "Las Vegas"},
+        {"Spain", "Málaga"}, {"United Kingdom", "London"}, {"Spain", "Zaragoza"}, {"Japan", "Tokyo"},
+        {"Spain", "Valladolid"}, {"Germany", "Berlin"}, {"Spain", "Murcia"}, {"Ukraine", "Kiev"},
+        {"Spain", "Santiago de Compostela"}, {"Argentina", "Buenos Aires"}, {"Spain", "Oviedo"},
+        {"Netherlands", "Amsterdam"}, {"Spain", "Granada"}, {"Poland", "Warsaw"}
+    };
+
+    private static final String[] MALE_NAMES = {"Alejandro", "Daniel", "Pablo", "Hugo", "Álvaro", "Adrián",
+        "David", "Diego", "Javier", "Mario", "Sergio", "Marcos", "Lucas", "Iván", "Carlos", "João", "Rafael",
+        "Michael", "James", "Andrei"};
+
+    private static final String[] FEMALE_NAMES = {"Lucía", "María", "Paula", "Laura", "Marta", "Sara", "Carla",
+        "Alba", "Julia", "Noa", "Claudia", "Irene", "Ana", "Elena", "Beatriz", "Gabriela", "Emily", "Olga"};
+
+    private static final String[] LAST_NAMES = {"García", "Rodríguez", "González", "Fernández", "López",
+        "Martínez", "Sánchez", "Pérez", "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno",
+        "Álvarez", "Romero", "Silva", "Souza", "Smith", "Johnson", "Rossi", "Kowalski", "Tanaka"};
+
+    // * Share of events per sport, in the order of the initial data (BJJ, Wrestling, MMA, Judo, Kick Boxing)
+    private static final double[] SPORT_WEIGHTS = {0.40, 0.10, 0.20, 0.15, 0.15};
+
+    private final SplittableRandom random;
+
+    private final Options options;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0).withSecond(0);
+
+    private List<String> sports;
+
+    private List<CategoryRow> categories;
+
+    private long firstUserId;
+
+    private long firstEventId;
+
+    // * Generated competitors (index = competitor number), kept to pick matching categories
+    private long[] competitorIds;
+
+    private byte[] competitorGender;
+
+    private byte[] competitorAge;
+
+    private long[] organizerIds;
+
+    private record Options(int users, int events, long inscriptions, String format, int batch, long seed,
+        Path initialData, Path out) {}
+
+    private record CategoryRow(long id, int sport, Integer minAge, Integer maxAge, long gender) {
+        boolean accepts(int age, long competitorGender) {
+            return gender == competitorGender
+                && (minAge == null || age >= minAge)
+                && (maxAge == null || age <= maxAge);
+        }
+    }
+
+    public DatasetGenerator(Options options) {
+        this.options = options;
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = parse(args);
+        long start = System.nanoTime();
+
+        new DatasetGenerator(options).run();
+
+        System.out.printf("Done in %.1f s -> %s%n", (System.nanoTime() - start) / 1e9, options.out().toAbsolutePath());
+    }
+
+    private void run() throws IOException {
+        readInitialData();
+        Files.createDirectories(options.out());
+
+        try (Output output = options.format().equals("sql")
+                ? new SqlOutput(options.out(), options.batch())
+                : new TsvOutput(options.out())) {
+            generateUsers(output);
+            generateEventsAndInscriptions(output);
+        }
+    }
+
+    // * Initial data
+
+    private void readInitialData() throws IOException {
+        String sql = Files.readString(options.initialData(), StandardCharsets.UTF_8);
+
+        sports = new ArrayList<>();
+        Matcher sportMatcher = Pattern.compile("\\('([^']+)'\\)").matcher(block(sql, "sports"));
+        while (sportMatcher.find()) sports.add(sportMatcher.group(1));
+
+        categories = new ArrayList<>();
+        Matcher categoryMatcher = Pattern.compile(
+            "\\((\\d+),\\s*'(?:[^']|'')*',\\s*(NULL|\\d+),\\s*(NULL|\\d+),\\s*(?:NULL|[\\d.]+),\\s*(?:NULL|[\\d.]+),\\s*(\\d+),\\s*(?:NULL|\\d+)\\)")
+            .matcher(block(sql, "categories"));
+        while (categoryMatcher.find())
+            categories.add(new CategoryRow(categories.size() + 1, Integer.parseInt(categoryMatcher.group(1)),
+                nullableInt(categoryMatcher.group(2)), nullableInt(categoryMatcher.group(3)),
+                Long.parseLong(categoryMatcher.group(4))));
+
+        firstUserId = countRows(block(sql, "users")) + 1;
+        firstEventId = countRows(block(sql, "events")) + 1;
+
+        System.out.printf("Initial data: %d sports, %d categories, %d users, %d events%n",
+            sports.size(), categories.size(), firstUserId - 1, firstEventId - 1);
+    }
+
+    private static String block(String sql, String table) {
+        int start = sql.indexOf("INSERT INTO " + table + " ");
+        if (start < 0) throw new IllegalStateException("No INSERT INTO " + table + " in initial data");
+        int end = sql.indexOf(";", start);
+        return sql.substring(start, end);
+    }
+
+    private static long countRows(String block) {
+        return block.lines().filter(line -> line.trim().startsWith("(")).count();
+    }
+
+    private static Integer nullableInt(String value) {
+        return value.equals("NULL") ? null : Integer.valueOf(value);
+    }
+
+    // * Users
+
+    private void generateUsers(Output output) throws IOException {
+        int organizers = Math.max(1, options.users() / 100);
+        int competitors = options.users() - organizers;
+
+        organizerIds = new long[organizers];
+        competitorIds = new long[competitors];
+        competitorGender = new byte[competitors];
+        competitorAge = new byte[competitors];
+
+        Table users = output.table("users", "id", "dni", "type_id", "email", "password_hash", "first_name",
+            "last_name", "date_of_birth", "gender_id", "country", "city", "phone", "is_verified", "created_at");
+
+        long id = firstUserId;
+        for (int i = 0; i < options.users(); i++, id++) {
+            boolean organizer = i < organizers;
+            long gender = random.nextDouble() < 0.7 ? GENDER_MALE : GENDER_FEMALE;
+            int age = organizer ? 30 + random.nextInt(35) : competitorAge();
+
+            if (organizer) {
+                organizerIds[i] = id;
+            } else {
+                int c = i - organizers;
+                competitorIds[c] = id;
+                competitorGender[c] = (byte) gender;
+                competitorAge[c] = (byte) age;
+            }
+
+            String firstName = pick(gender == GENDER_MALE ? MALE_NAMES : FEMALE_NAMES);
+            String lastName = pick(LAST_NAMES);
+            String[] city = CITIES[zipf(CITIES.length, 1.0)];
+            LocalDate birth = now.toLocalDate().minusYears(age).minusDays(random.nextInt(365));
+
+            users.row(id, dni(id), organizer ? TYPE_ORGANIZER : TYPE_COMPETITOR,
+                ascii(firstName + "." + lastName) + "." + id + "@example.com", PASSWORD_HASH,
+                firstName, lastName, birth, gender, city[0], city[1],
+                600_000_000 + random.nextInt(100_000_000), random.nextDouble() < 0.9,
+                now.minusDays(random.nextInt(1500)));
+        }
+
+        users.close();
+        System.out.printf("users: %d (%d organizers)%n", options.users(), organizers);
+    }
+
+    private int competitorAge() {
+        double p = random.nextDouble();
+        if (p < 0.15) return 4 + random.nextInt(12);      // kids (4-15)
+        if (p < 0.90) return 16 + random.nextInt(20);     // adults (16-35)
+        return 36 + random.nextInt(25);                   // masters (36-60)
+    }
+
+    // * Events, categories, inscriptions and results
+
+    private void generateEventsAndInscriptions(Output output) throws IOException {
+        int events = options.events();
+
+        // ? Event popularity follows a power law over a shuffled rank
+        double[] weights = new double[events];
+        double total = 0;
+        int[] ranks = shuffledRange(events);
+        for (int e = 0; e < events; e++) {
+            weights[e] = 1.0 / Math.pow(ranks[e] + 1, 0.9);
+            total += weights[e];
+        }
+
+        Map<Integer, List<CategoryRow>> categoriesBySport = new HashMap<>();
+        for (CategoryRow category : categories)
+            categoriesBySport.computeIfAbsent(category.sport(), k -> new ArrayList<>()).add(category);
+
+        Table eventTable = output.table("events", "id", "sport_id", "organizer_id", "name", "description",
+            "start_date", "end_date", "status", "country", "city", "address", "created_at", "registration_fee");
+        Table eventCategoryTable = output.table("event_categories", "event_id", "category_id");
+        Table inscriptionTable = output.table("inscriptions", "competitor_id", "event_id", "category_id",
+            "register_date", "payment_status");
+        Table resultTable = output.table("results", "event_id", "category_id", "competitor_id", "position");
+
+        long inscriptions = 0, results = 0, eventCategories = 0;
+        int competitors = competitorIds.length;
+
+        for (int e = 0; e < events; e++) {
+            long eventId = firstEventId + e;
+            int sport = weightedSport();
+            List<CategoryRow> sportCategories = categoriesBySport.getOrDefault(sport, List.of());
+            String[] city = CITIES[zipf(CITIES.length, 1.0)];
+            LocalDateTime start = now.minusDays(3 * 365).plusDays(random.nextInt(4 * 365))
+                .withHour(8 + random.nextInt(4)).withMinute(0);
+            LocalDateTime end = start.plusHours(8 + random.nextInt(40));
+            String status = status(start, end);
+            String sportName = sport <= sports.size() ? sports.get(sport - 1) : "Sport " + sport;
+
+            eventTable.row(eventId, sport, organizerIds[zipf(organizerIds.length, 1.2)],
+                city[1] + " " + sportName + " Open " + start.getYear() + " #" + eventId,
+                sportName + " tournament in " + city[1], start, end, status, city[0], city[1],
+                "Polideportivo " + (1 + random.nextInt(50)), start.minusDays(60 + random.nextInt(120)),
+                20 + 5 * random.nextInt(13));
+
+            // * Event categories: a random subset of the sport categories
+            CategoryRow[] offered = sample(sportCategories, Math.min(sportCategories.size(), 8 + random.nextInt(33)));
+            for (CategoryRow category : offered)
+                eventCategoryTable.row(eventId, category.id());
+            eventCategories += offered.length;
+
+            if (offered.length == 0) continue;
+
+            // * Inscriptions: distinct competitors walking the array with a stride coprime with its size
+            int count = (int) Math.min(competitors, Math.round(options.inscriptions() * weights[e] / total));
+            int first = random.nextInt(competitors);
+            int stride = coprimeStride(competitors);
+            boolean completed = status.equals("COMPLETED");
+            Map<Long, Integer> podium = completed ? new HashMap<>() : null;
+
+            for (int j = 0; j < count; j++) {
+                int c = (int) ((first + (long) j * stride) % competitors);
+                CategoryRow category = categoryFor(offered, competitorAge[c], competitorGender[c]);
+                String payment = payment(start);
+
+                inscriptionTable.row(competitorIds[c], eventId, category.id(),
+                    start.minusDays(1 + random.nextInt(90)).minusMinutes(random.nextInt(1440)), payment);
+
+                if (completed && !payment.equals("CANCELLED")) {
+                    int position = podium.merge(category.id(), 1, Integer::sum);
+                    if (position <= 3) {
+                        resultTable.row(eventId, category.id(), competitorIds[c], position);
+                        results++;
+                    }
+                }
+            }
+            inscriptions += count;
+        }
+
+        eventTable.close();
+        eventCategoryTable.close();
+        inscriptionTable.close();
+        resultTable.close();
+
+        System.out.printf("events: %d, event_categories: %d, inscriptions: %d, results: %d%n",
+            events, eventCategories, inscriptions, results);
+    }
+
+    private String status(LocalDateTime start, LocalDateTime end) {
+        if (random.nextDouble() < 0.04) return "CANCELLED";
+        if (end.isBefore(now)) return "COMPLETED";
+        if (start.isBefore(now)) return "ONGOING";
+        return "PLANNED";
+    }
+
+    private String payment(LocalDateTime start) {
+        double p = random.nextDouble();
+        if (start.isBefore(now))
+            return p < 0.90 ? "PAID" : p < 0.95 ? "PENDING" : "CANCELLED";
+        return p < 0.60 ? "PAID" : p < 0.95 ? "PENDING" : "CANCELLED";
+    }
+
+    private CategoryRow categoryFor(CategoryRow[] offered, int age, long gender) {
+        // ? A few random probes are enough: most events offer several categories per gender
+        for (int attempt = 0; attempt < 8; attempt++) {
+            CategoryRow category = offered[random.nextInt(offered.length)];
+            if (category.accepts(age, gender)) return category;
+        }
+        for (CategoryRow category : offered)
+            if (category.gender() == gender) return category;
+        return offered[random.nextInt(offered.length)];
+    }
+
+    private int weightedSport() {
+        double p = random.nextDouble() * Arrays.stream(SPORT_WEIGHTS).limit(sports.size()).sum();
+        for (int s = 0; s < Math.min(sports.size(), SPORT_WEIGHTS.length); s++) {
+            p -= SPORT_WEIGHTS[s];
+            if (p < 0) return s + 1;
+        }
+        return 1 + random.nextInt(sports.size());
+    }
+
+    // * Random helpers
+
+    /**
+     * Zipf distributed index in [0, n): index 0 is the most frequent
+     */
+    private int zipf(int n, double exponent) {
+        // ? Inverse transform over the continuous approximation of the harmonic sum
+        double u = random.nextDouble();
+        if (exponent == 1.0)
+            return Math.min(n - 1, (int) Math.floor(Math.pow(n + 1, u)) - 1);
+        double a = 1 - exponent;
+        double x = Math.pow(u * (Math.pow(n + 1, a) - 1) + 1, 1 / a);
+        return Math.min(n - 1, Math.max(0, (int) Math.floor(x) - 1));
+    }
+
+    private int[] shuffledRange(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    private CategoryRow[] sample(List<CategoryRow> from, int size) {
+        CategoryRow[] copy = from.toArray(new CategoryRow[0]);
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(copy.length - i);
+            CategoryRow tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return Arrays.copyOf(copy, size);
+    }
+
+    private int coprimeStride(int n) {
+        if (n == 1) return 1;
+        while (true) {
+            int stride = 1 + random.nextInt(n - 1);
+            if (gcd(stride, n) == 1) return stride;
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String dni(long id) {
+        long number = 10_000_000 + id;
+        return String.format("%08d%c", number % 100_000_000, DNI_LETTERS.charAt((int) (number % 100_000_000 % 23)));
+    }
+
+    private static String ascii(String value) {
+        return java.text.Normalizer.normalize(value, java.text.Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "").replace(' ', '.').toLowerCase();
+    }
+
+    // * Output formats
+
+    private interface Table {
+        void row(Object... values) throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private interface Output extends AutoCloseable {
+        Table table(String name, String... columns) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static String format(Object value) {
+        if (value instanceof LocalDateTime dateTime) return DATE_TIME.format(dateTime);
+        if (value instanceof Boolean bool) return bool ? "1" : "0";
+        return String.valueOf(value);
+    }
+
+    /**
+     * Tab separated files and a load.sql with the LOAD DATA statements
+     */
+    private static class TsvOutput implements Output {
+        private final Path dir;
+
+        private final BufferedWriter load;
+
+        TsvOutput(Path dir) throws IOException {
+            this.dir = dir;
+            this.load = Files.newBufferedWriter(dir.resolve("load.sql"), StandardCharsets.UTF_8);
+            load.write("-- mysql --local-infile=1 tapped_out < load.sql (run from this directory)\n");
+            load.write("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n\n");
+        }
+
+        @Override
+        public Table table(String name, String... columns) throws IOException {
+            String file = name + ".tsv";
+            load.write("LOAD DATA LOCAL INFILE '" + file + "' INTO TABLE " + name
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' ("
+                + String.join(", ", columns) + ");\n");
+
+            BufferedWriter writer = Files.newBufferedWriter(dir.resolve(file), StandardCharsets.UTF_8);
+            return new Table() {
+                @Override
+                public void row(Object... values) throws IOException {
+                    for (int i = 0; i < values.length; i++) {
+                        if (i > 0) writer.write('\t');
+                        writer.write(values[i] == null ? "\\N" : format(values[i]).replace("\t", " "));
+                    }
+                    writer.write('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            load.write("\nSET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+            load.close();
+        }
+    }
+
+    /**
+     * One script per table with multi-row INSERT statements
+     */
+    private static class SqlOutput implements Output {
+        private final Path dir;
+
+        private final int batch;
+
+        private int tables;
+
+        SqlOutput(Path dir, int batch) {
+            this.dir = dir;
+            this.batch = batch;
+        }
+
+        @Override
+        public Table table(String name, String... columns) throws IOException {
+            String header = "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES\n";
+            BufferedWriter writer = Files.newBufferedWriter(
+                dir.resolve(String.format("%02d_%s.sql", ++tables, name)), StandardCharsets.UTF_8);
+            writer.write("USE tapped_out;\nSET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\nSET autocommit = 0;\n\n");
+
+            return new Table() {
+                private int rows;
+
+                @Override
+                public void row(Object... values) throws IOException {
+                    writer.write(rows % batch == 0 ? (rows > 0 ? ";\n" : "") + header : ",\n");
+                    writer.write('(');
+                    for (int i = 0; i < values.length; i++) {
+                        if (i > 0) writer.write(", ");
+                        Object value = values[i];
+                        if (value == null) writer.write("NULL");
+                        else if (value instanceof Number || value instanceof Boolean) writer.write(format(value));
+                        else writer.write("'" + format(value).replace("\\", "\\\\").replace("'", "''") + "'");
+                    }
+                    writer.write(')');
+                    rows++;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (rows > 0) writer.write(";\n");
+                    writer.write("COMMIT;\nSET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+                    writer.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    // * Arguments
+
+    private static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Expected --option value, got: " + args[i]);
+            values.put(args[i].substring(2), args[++i]);
+        }
+
+        int users = Integer.parseInt(values.getOrDefault("users", "100000"));
+        String format = values.getOrDefault("format", "tsv");
+        if (!format.equals("tsv") && !format.equals("sql"))
+            throw new IllegalArgumentException("--format must be tsv or sql");
+
+        return new Options(
+            users,
+            Integer.parseInt(values.getOrDefault("events", String.valueOf(Math.max(1, users / 50)))),
+            Long.parseLong(values.getOrDefault("inscriptions", String.valueOf(users * 5L))),
+            format,
+            Integer.parseInt(values.getOrDefault("batch", "1000")),
+            Long.parseLong(values.getOrDefault("seed", "42")),
+            Path.of(values.getOrDefault("initial-data", "02_TappedOut-InitialData.sql")),
+            Path.of(values.getOrDefault("out", "generated")));
+    }
+}
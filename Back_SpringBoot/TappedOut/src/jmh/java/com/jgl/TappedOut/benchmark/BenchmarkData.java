@@ -0,0 +1,103 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jgl.TappedOut.mapper.CategoryMapperImpl;
+import com.jgl.TappedOut.mapper.EventMapperImpl;
+import com.jgl.TappedOut.mapper.GenderMapperImpl;
+import com.jgl.TappedOut.mapper.InscriptionMapperImpl;
+import com.jgl.TappedOut.mapper.SportLevelMapperImpl;
+import com.jgl.TappedOut.mapper.SportMapperImpl;
+import com.jgl.TappedOut.mapper.UserMapperImpl;
+import com.jgl.TappedOut.mapper.UserTypeMapperImpl;
+import com.jgl.TappedOut.models.Category;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.EventStatus;
+import com.jgl.TappedOut.models.Gender;
+import com.jgl.TappedOut.models.Inscription;
+import com.jgl.TappedOut.models.PaymentStatus;
+import com.jgl.TappedOut.models.Sport;
+import com.jgl.TappedOut.models.SportLevel;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.models.UserType;
+
+/**
+ * Entities and mappers shared by the benchmarks
+ * 
+ * ? The mappers are the MapStruct implementations wired by hand, without a Spring context.
+ * ? The entities are fully initialized, as returned by the entity graph queries
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+final class BenchmarkData {
+    static final Sport SPORT = new Sport(1L, "Brazilian Jiu-Jitsu");
+
+    static final Gender MALE = new Gender(1L, "MALE");
+
+    static final UserType ORGANIZER = new UserType(2L, "ORGANIZER");
+
+    static final UserType COMPETITOR = new UserType(1L, "COMPETITOR");
+
+    static final SportLevel LEVEL = new SportLevel(2L, SPORT, "Blue Belt");
+
+    private BenchmarkData() {}
+
+    /**
+     * Mappers wired the way the Spring context does
+     */
+    record Mappers(EventMapperImpl event, InscriptionMapperImpl inscription) {}
+
+    static Mappers mappers() {
+        SportMapperImpl sportMapper = new SportMapperImpl();
+        GenderMapperImpl genderMapper = new GenderMapperImpl();
+        UserTypeMapperImpl userTypeMapper = new UserTypeMapperImpl();
+
+        SportLevelMapperImpl sportLevelMapper = new SportLevelMapperImpl();
+        ReflectionTestUtils.setField(sportLevelMapper, "sportMapper", sportMapper);
+
+        UserMapperImpl userMapper = new UserMapperImpl();
+        ReflectionTestUtils.setField(userMapper, "userTypeMapper", userTypeMapper);
+        ReflectionTestUtils.setField(userMapper, "genderMapper", genderMapper);
+
+        CategoryMapperImpl categoryMapper = new CategoryMapperImpl();
+        ReflectionTestUtils.setField(categoryMapper, "sportMapper", sportMapper);
+        ReflectionTestUtils.setField(categoryMapper, "genderMapper", genderMapper);
+        ReflectionTestUtils.setField(categoryMapper, "sportLevelMapper", sportLevelMapper);
+
+        EventMapperImpl eventMapper = new EventMapperImpl();
+        ReflectionTestUtils.setField(eventMapper, "sportMapper", sportMapper);
+        ReflectionTestUtils.setField(eventMapper, "userMapper", userMapper);
+
+        InscriptionMapperImpl inscriptionMapper = new InscriptionMapperImpl();
+        ReflectionTestUtils.setField(inscriptionMapper, "userMapper", userMapper);
+        ReflectionTestUtils.setField(inscriptionMapper, "eventMapper", eventMapper);
+        ReflectionTestUtils.setField(inscriptionMapper, "categoryMapper", categoryMapper);
+
+        return new Mappers(eventMapper, inscriptionMapper);
+    }
+
+    static User user(long id, UserType type) {
+        return new User(id, String.format("%08dT", id), type, "user" + id + "@tappedout.com",
+            "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3p1u5Pw0eFZ5Zq2vX1cQ8y2", "Name" + id, "Surname" + id,
+            LocalDate.of(1995, 5, 17), MALE, "Spain", "Madrid", 600000000, null, true, LocalDateTime.now());
+    }
+
+    static Event event(long id, User organizer) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        return new Event(id, SPORT, organizer, "Madrid Open " + id, "Open tournament for every belt and age",
+            start, start.plusDays(1), EventStatus.PLANNED, "Spain", "Madrid", "Calle Mayor 1", null,
+            LocalDateTime.now(), new BigDecimal("35.00"));
+    }
+
+    static Inscription inscription(long id, Event event, User competitor) {
+        Category category = new Category(3L, SPORT, "Adult Blue Belt Light", 18, 29,
+            new BigDecimal("70.01"), new BigDecimal("76.00"), MALE, LEVEL);
+        return new Inscription(id, competitor, event, category, LocalDateTime.now(), PaymentStatus.PAID);
+    }
+}
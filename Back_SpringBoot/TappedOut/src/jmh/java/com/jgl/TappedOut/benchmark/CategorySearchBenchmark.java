@@ -0,0 +1,222 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.SqlCapture;
+import com.jgl.TappedOut.TappedOutApplication;
+import com.jgl.TappedOut.dto.CategorySearchFilterDTO;
+import com.jgl.TappedOut.dto.CategoryView;
+import com.jgl.TappedOut.models.Gender;
+import com.jgl.TappedOut.models.Sport;
+import com.jgl.TappedOut.models.SportLevel;
+import com.jgl.TappedOut.repositories.CategoryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Category search with optional filters, one query with every filter as
+ * "(:param IS NULL OR ...)" against the JPQL query with only the supplied ones
+ *
+ * ? Boots the application on its own H2 database (test application.properties) and
+ * ? inserts the given number of categories spread over 20 sports, 2 genders and 5 levels per sport.
+ * ? The setup logs the EXPLAIN of the statement each version sends for the filters of the shape
+ * ! Run with -Dspring.datasource.url=... (and username/password) to measure against a
+ * ! scratch MySQL database, H2 plans the optional parameters better than MySQL does
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategorySearchBenchmark {
+    private static final int SPORTS = 20;
+
+    private static final int LEVELS_PER_SPORT = 5;
+
+    // * The query removed from CategoryRepository, kept to compare against (ordered by ID as the new one)
+    private static final String LEGACY_SEARCH = CategoryRepository.CATEGORY_VIEW_SELECT + "WHERE " +
+        "c.sportId = :sport AND " +
+        "c.genderId = :gender AND " +
+        "(:level IS NULL OR c.levelId = :level) AND " +
+        "(:minAge IS NULL OR c.minAge IS NULL OR c.minAge <= :minAge) AND " +
+        "(:maxAge IS NULL OR c.maxAge IS NULL OR c.maxAge >= :maxAge) AND " +
+        "(:minWeight IS NULL OR c.minWeight IS NULL OR c.minWeight <= :minWeight) AND " +
+        "(:maxWeight IS NULL OR c.maxWeight IS NULL OR c.maxWeight >= :maxWeight) " +
+        "ORDER BY c.id";
+
+    /**
+     * Filters supplied by the search
+     */
+    public enum Shape { SPORT_GENDER, LEVEL, ALL_FILTERS }
+
+    @Param({ "100000" })
+    public int categories;
+
+    @Param({ "SPORT_GENDER", "LEVEL", "ALL_FILTERS" })
+    public Shape shape;
+
+    private ConfigurableApplicationContext context;
+
+    private CategoryRepository categoryRepo;
+
+    private EntityManager em;
+
+    private TransactionTemplate readOnly;
+
+    private CategorySearchFilterDTO filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TappedOutApplication.class, SqlCapture.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:category_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "logging.level.root=WARN",
+                "logging.level.com.jgl.TappedOut.benchmark=INFO")
+            .run();
+
+        categoryRepo = context.getBean(CategoryRepository.class);
+        em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        if (jdbc.queryForObject("SELECT COUNT(*) FROM categories", Long.class) < categories) seed(jdbc);
+
+        filter = filterFor(shape, jdbc);
+        explain(jdbc);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CategoryView> legacyOptionalParameters() {
+        return readOnly.execute(status -> em.createQuery(LEGACY_SEARCH, CategoryView.class)
+            .setParameter("sport", em.getReference(Sport.class, filter.getSportId()))
+            .setParameter("gender", em.getReference(Gender.class, filter.getGenderId()))
+            .setParameter("level", filter.getLevelId() != null ? em.getReference(SportLevel.class, filter.getLevelId()) : null)
+            .setParameter("minAge", filter.getMinAge())
+            .setParameter("maxAge", filter.getMaxAge())
+            .setParameter("minWeight", filter.getMinWeight())
+            .setParameter("maxWeight", filter.getMaxWeight())
+            .getResultList());
+    }
+
+    @Benchmark
+    public List<CategoryView> suppliedFilters() {
+        return readOnly.execute(status -> categoryRepo.searchViews(filter));
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO genders (name) VALUES ('Male'), ('Female')");
+
+        List<Object[]> sports = new ArrayList<>();
+        for (int s = 1; s <= SPORTS; s++) sports.add(new Object[] { "Sport " + s });
+        jdbc.batchUpdate("INSERT INTO sports (name) VALUES (?)", sports);
+
+        List<Long> sportIds = jdbc.queryForList("SELECT id FROM sports ORDER BY id", Long.class);
+        List<Object[]> levels = new ArrayList<>();
+        for (Long sportId : sportIds) {
+            for (int l = 1; l <= LEVELS_PER_SPORT; l++) levels.add(new Object[] { sportId, "Level " + l });
+        }
+        jdbc.batchUpdate("INSERT INTO sport_levels (sport_id, name) VALUES (?, ?)", levels);
+
+        List<Long> genderIds = jdbc.queryForList("SELECT id FROM genders ORDER BY id", Long.class);
+        List<Long> levelIds = jdbc.queryForList("SELECT id FROM sport_levels ORDER BY sport_id, id", Long.class);
+
+        // ? Fixed seed, so every run (and both benchmarks) searches the same data
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < categories; i++) {
+            int sport = i % SPORTS;
+            Integer minAge = random.nextInt(4) == 0 ? null : 4 + random.nextInt(40);
+            Integer maxAge = minAge == null || random.nextInt(4) == 0 ? null : minAge + 1 + random.nextInt(20);
+            BigDecimal minWeight = random.nextInt(3) == 0 ? null : BigDecimal.valueOf(30 + random.nextInt(70));
+            BigDecimal maxWeight = minWeight == null || random.nextInt(3) == 0 ? null : minWeight.add(BigDecimal.valueOf(5 + random.nextInt(15)));
+            Long level = random.nextInt(5) == 0 ? null : levelIds.get(sport * LEVELS_PER_SPORT + random.nextInt(LEVELS_PER_SPORT));
+
+            rows.add(new Object[] { sportIds.get(sport), "Category " + i, minAge, maxAge, minWeight, maxWeight,
+                genderIds.get((i / SPORTS) % genderIds.size()), level });
+            if (rows.size() == 5_000) {
+                insertCategories(jdbc, rows);
+                rows.clear();
+            }
+        }
+        insertCategories(jdbc, rows);
+        // * Valid on both H2 and MySQL
+        jdbc.execute("ANALYZE TABLE categories");
+    }
+
+    private static void insertCategories(JdbcTemplate jdbc, List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO categories (sport_id, name, min_age, max_age, min_weight, max_weight, gender_id, level_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static CategorySearchFilterDTO filterFor(Shape shape, JdbcTemplate jdbc) {
+        Long sportId = jdbc.queryForObject("SELECT MIN(id) FROM sports", Long.class);
+        Long genderId = jdbc.queryForObject("SELECT MIN(id) FROM genders", Long.class);
+
+        CategorySearchFilterDTO filter = new CategorySearchFilterDTO();
+        filter.setSportId(sportId);
+        filter.setGenderId(genderId);
+        if (shape == Shape.SPORT_GENDER) return filter;
+
+        filter.setLevelId(jdbc.queryForObject("SELECT MIN(id) FROM sport_levels WHERE sport_id = ?", Long.class, sportId));
+        if (shape == Shape.LEVEL) return filter;
+
+        filter.setMinAge(20);
+        filter.setMaxAge(25);
+        filter.setMinWeight(BigDecimal.valueOf(70));
+        filter.setMaxWeight(BigDecimal.valueOf(80));
+        return filter;
+    }
+
+    /**
+     * Logs the plan of the SQL each version really sends, with the values it binds
+     *
+     * ? Every EXPLAIN row is logged as a map, H2 returns a single PLAN column and MySQL one row per table
+     */
+    private void explain(JdbcTemplate jdbc) {
+        explain(jdbc, "legacy", this::legacyOptionalParameters);
+        explain(jdbc, "supplied filters", this::suppliedFilters);
+    }
+
+    private void explain(JdbcTemplate jdbc, String version, Runnable search) {
+        SqlCapture.start();
+        search.run();
+        for (SqlCapture.Statement statement : SqlCapture.stop()) {
+            log.info("{} {} plan\n\tSQL: {}\n\tValues: {}", shape, version, statement.sql(), statement.values());
+            jdbc.queryForList("EXPLAIN " + statement.sql(), statement.parameters())
+                .forEach(row -> log.info("\t{}", row));
+        }
+    }
+}
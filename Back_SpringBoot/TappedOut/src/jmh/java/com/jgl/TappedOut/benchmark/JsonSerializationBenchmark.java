@@ -0,0 +1,75 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.InscriptionResponseDTO;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.User;
+
+/**
+ * Cost of writing the response DTOs as JSON
+ * 
+ * ? The object mapper is configured like the one of Spring Boot (ISO dates).
+ * ? size is the number of DTOs of a list response (one page of events by default)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+    @Param({"1", "20"})
+    private int size;
+
+    private ObjectWriter writer;
+
+    private List<EventResponseDTO> events;
+
+    private List<InscriptionResponseDTO> inscriptions;
+
+    @Setup
+    public void setup() {
+        writer = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+        BenchmarkData.Mappers mappers = BenchmarkData.mappers();
+        events = new ArrayList<>();
+        inscriptions = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            Event event = BenchmarkData.event(i, BenchmarkData.user(i, BenchmarkData.ORGANIZER));
+            User competitor = BenchmarkData.user(1000 + i, BenchmarkData.COMPETITOR);
+            events.add(mappers.event().toResponseDTO(event));
+            inscriptions.add(mappers.inscription().toResponseDTO(BenchmarkData.inscription(i, event, competitor)));
+        }
+    }
+
+    @Benchmark
+    public byte[] events() throws JsonProcessingException {
+        return writer.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] inscriptions() throws JsonProcessingException {
+        return writer.writeValueAsBytes(inscriptions);
+    }
+}
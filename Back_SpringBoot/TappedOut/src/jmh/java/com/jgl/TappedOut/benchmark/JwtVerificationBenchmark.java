@@ -0,0 +1,69 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jgl.TappedOut.conf.JwtTokenProvider;
+
+/**
+ * Per request cost of verifying the bearer token
+ * 
+ * ? legacyValidateThenParse reproduces the previous path (a new algorithm and
+ * ? verifier built twice per request, once to validate and once to read the subject)
+ * ? verify measures the single pass with the shared verifier, with the verified
+ * ? token cache disabled (cacheSize = 0) and enabled
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-1234";
+
+    @Param({"0", "1024"})
+    private int cacheSize;
+
+    private JwtTokenProvider provider;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 900_000);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheSize", cacheSize);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+
+        token = provider.generateAccessToken(42L, "competitor@tappedout.com", "COMPETITOR");
+    }
+
+    @Benchmark
+    public void legacyValidateThenParse(Blackhole bh) {
+        JWT.require(Algorithm.HMAC512(SECRET)).build().verify(token);
+        bh.consume(JWT.require(Algorithm.HMAC512(SECRET)).build().verify(token).getSubject());
+    }
+
+    @Benchmark
+    public String verify() {
+        DecodedJWT decoded = provider.verify(token);
+        return decoded.getSubject();
+    }
+}
@@ -0,0 +1,62 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.InscriptionResponseDTO;
+import com.jgl.TappedOut.mapper.EventMapper;
+import com.jgl.TappedOut.mapper.InscriptionMapper;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.Inscription;
+
+/**
+ * Cost of mapping entities to response DTOs
+ * 
+ * ? EventMapper maps the event with its sport and organizer, InscriptionMapper
+ * ? the deepest graph (competitor, event with organizer, category with level)
+ * ? Run with -prof gc to see the bytes allocated per mapping
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+    private EventMapper eventMapper;
+
+    private InscriptionMapper inscriptionMapper;
+
+    private Event event;
+
+    private Inscription inscription;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.Mappers mappers = BenchmarkData.mappers();
+        eventMapper = mappers.event();
+        inscriptionMapper = mappers.inscription();
+
+        event = BenchmarkData.event(1L, BenchmarkData.user(1L, BenchmarkData.ORGANIZER));
+        inscription = BenchmarkData.inscription(1L, event, BenchmarkData.user(2L, BenchmarkData.COMPETITOR));
+    }
+
+    @Benchmark
+    public EventResponseDTO eventToResponseDTO() {
+        return eventMapper.toResponseDTO(event);
+    }
+
+    @Benchmark
+    public InscriptionResponseDTO inscriptionToResponseDTO() {
+        return inscriptionMapper.toResponseDTO(inscription);
+    }
+}
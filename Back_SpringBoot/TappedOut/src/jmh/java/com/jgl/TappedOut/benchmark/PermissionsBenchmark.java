@@ -0,0 +1,123 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.service.AuthorizationContext;
+import com.jgl.TappedOut.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.jgl.TappedOut.service.PermissionsService;
+
+/**
+ * Cost of the authorization checks done on every request
+ * 
+ * ? getAuthorities is called by the JWT filter for every authenticated request.
+ * ? canEditEvent gets a new AuthorizationContext per call (a new request), built
+ * ? outside the measurement, while canEditEventMemoized reuses it (several checks within one request).
+ * ! The event repository is a proxy answering findById only, the database lookup is not measured.
+ * ! canEditEvent has a per-invocation setup, so JMH times every call on its own:
+ * ! compare it with canEditEventMemoized knowing it carries the timer overhead
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionsBenchmark {
+    private static final long EVENT_ID = 7L;
+
+    @Param({"ADMIN", "ORGANIZER", "COMPETITOR"})
+    private String role;
+
+    private CustomUserPrincipal principal;
+
+    private EventRepository eventRepo;
+
+    private PermissionsService requestScoped;
+
+    /**
+     * Permissions of a new request, wired before every call
+     */
+    @State(Scope.Thread)
+    public static class Request {
+        private PermissionsService permissions;
+
+        @Setup(Level.Invocation)
+        public void setup(PermissionsBenchmark benchmark) {
+            permissions = benchmark.permissions();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        principal = new CustomUserPrincipal(1L, "user1@tappedout.com", role);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        Event event = BenchmarkData.event(EVENT_ID, BenchmarkData.user(1L, BenchmarkData.ORGANIZER));
+        eventRepo = repositoryOf(event);
+
+        requestScoped = permissions();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean canEditEvent(Request request) {
+        return request.permissions.canEditEvent(EVENT_ID);
+    }
+
+    @Benchmark
+    public boolean canEditEventMemoized() {
+        return requestScoped.canEditEvent(EVENT_ID);
+    }
+
+    private PermissionsService permissions() {
+        AuthorizationContext context = new AuthorizationContext();
+        ReflectionTestUtils.setField(context, "eventRepo", eventRepo);
+
+        PermissionsService permissions = new PermissionsService();
+        ReflectionTestUtils.setField(permissions, "authContext", context);
+        return permissions;
+    }
+
+    /**
+     * Repository finding the event for any ID, every other method throws
+     */
+    private static EventRepository repositoryOf(Event event) {
+        Optional<Event> found = Optional.of(event);
+        return (EventRepository) Proxy.newProxyInstance(EventRepository.class.getClassLoader(),
+            new Class<?>[] { EventRepository.class }, (proxy, method, args) -> {
+                if (method.getName().equals("findById")) return found;
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,105 @@
+package com.jgl.TappedOut.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.jgl.TappedOut.service.PooledMailSender;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Throughput of sending emails to an embedded SMTP server (GreenMail)
+ * 
+ * ? connectionPerMessage is the JavaMailSender path (one connection per send call),
+ * ? pooledBatch sends the same messages through one pooled connection
+ * ! Local loopback without TLS: a real server with TLS and auth widens the gap
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SmtpThroughputBenchmark {
+    private static final int MESSAGES = 100;
+
+    private GreenMail greenMail;
+
+    private JavaMailSenderImpl mailSender;
+
+    private PooledMailSender pooledSender;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        pooledSender = new PooledMailSender();
+        ReflectionTestUtils.setField(pooledSender, "mailSender", mailSender);
+        ReflectionTestUtils.setField(pooledSender, "poolSize", 4);
+        ReflectionTestUtils.setField(pooledSender, "maxIdleSeconds", 30L);
+        ReflectionTestUtils.invokeMethod(pooledSender, "init");
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(pooledSender, "shutdown");
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void connectionPerMessage() throws MessagingException {
+        for (MimeMessage message : messages())
+            mailSender.send(message);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public Map<Integer, Exception> pooledBatch() throws MessagingException {
+        return pooledSender.send(messages());
+    }
+
+    private List<MimeMessage> messages() throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("noreply@tappedout.com");
+            helper.setTo("competitor" + i + "@tappedout.com");
+            helper.setSubject("¡Un evento en TappedOut ha sido actualizado!");
+            helper.setText("<html><body><h1>OPEN MADRID 2025</h1></body></html>", true);
+            messages.add(message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jgl.TappedOut.conf;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a scheduled job that must run on only one node per tick
+ * 
+ * ? The node that takes the database lease runs the job, the rest skip it.
+ * ? lockAtMostSeconds bounds how long a crashed node keeps the lease,
+ * ? lockAtLeastSeconds keeps it after a fast run so nodes with slightly
+ * ? different clocks do not run the same tick again
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLock {
+    /**
+     * Name of the lease, unique per job
+     */
+    String name();
+
+    /**
+     * Max seconds the lease is held (must be longer than the job)
+     */
+    long lockAtMostSeconds() default 600;
+
+    /**
+     * Min seconds the lease is held, even if the job ends earlier
+     */
+    long lockAtLeastSeconds() default 0;
+}
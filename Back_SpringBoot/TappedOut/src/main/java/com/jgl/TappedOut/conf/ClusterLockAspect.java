@@ -0,0 +1,65 @@
+package com.jgl.TappedOut.conf;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.jgl.TappedOut.service.ClusterLockService;
+import com.jgl.TappedOut.service.ClusterLockService.Lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that runs the methods annotated with {@link ClusterLock} only on
+ * the node holding the lease
+ * 
+ * ? Metrics: scheduled.job.duration (timer, tags job and outcome) and
+ * ? scheduled.job.skipped (runs skipped because another node had the lease)
+ * ! Skipped runs return null, only use it on void methods
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Aspect
+@Component
+@Slf4j
+public class ClusterLockAspect {
+    @Autowired
+    private ClusterLockService lockService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("@annotation(clusterLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, ClusterLock clusterLock) throws Throwable {
+        String job = clusterLock.name();
+
+        Optional<Lease> lease = lockService.tryAcquire(job, Duration.ofSeconds(clusterLock.lockAtMostSeconds()));
+        if (lease.isEmpty()) {
+            Counter.builder("scheduled.job.skipped").tag("job", job).register(meterRegistry).increment();
+            log.debug("Skipping job {}, lease held by another node", job);
+            return null;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = "failure";
+            throw t;
+        } finally {
+            sample.stop(Timer.builder("scheduled.job.duration").tag("job", job).tag("outcome", outcome).register(meterRegistry));
+            lockService.release(lease.get(), Duration.ofSeconds(clusterLock.lockAtLeastSeconds()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jgl.TappedOut.conf;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every method of the REST controllers
+ * 
+ * ? Metric: controller.method.duration (timer, tags controller, method and exception).
+ * ? Count, total and max only: latency percentiles come from the http.server.requests histogram.
+ * ? Repository methods are timed by Spring Data (spring.data.repository.invocations),
+ * ? the HTTP requests by Spring MVC (http.server.requests) and the connection pool
+ * ? by Hikari (hikaricp.connections.*)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Aspect
+@Component
+public class ControllerMetricsAspect {
+    public static final String METRIC = "controller.method.duration";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(com.jgl.TappedOut.controller..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                .tag("controller", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}
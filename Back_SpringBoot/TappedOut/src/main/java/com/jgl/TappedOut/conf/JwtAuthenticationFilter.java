@@ -6,12 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jgl.TappedOut.service.CustomUserDetailsService;
+import com.jgl.TappedOut.service.CustomUserDetailsService.CustomUserPrincipal;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,17 +26,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider jwtTokenProvider;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            DecodedJWT token = jwt != null ? verifyOrNull(jwt) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (token != null) {
+                // ! Refresh tokens are only accepted by /auth/refresh
+                if (JwtTokenProvider.REFRESH_TOKEN.equals(token.getClaim(JwtTokenProvider.TOKEN_TYPE_CLAIM).asString())) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+                    return;
+                }
+
+                UserDetails userDetails = buildPrincipal(token);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -49,6 +57,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Verifies the token, invalid or expired tokens leave the request unauthenticated
+     */
+    private DecodedJWT verifyOrNull(String jwt) {
+        try {
+            return jwtTokenProvider.verify(jwt);
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal from the verified claims, so no database access is needed
+     * ? Tokens issued before the ID/role claims existed are resolved through the cached user lookup
+     */
+    private UserDetails buildPrincipal(DecodedJWT token) {
+        Long userId = token.getClaim(JwtTokenProvider.USER_ID_CLAIM).asLong();
+        String role = token.getClaim(JwtTokenProvider.ROLE_CLAIM).asString();
+
+        if (userId != null && role != null)
+            return new CustomUserPrincipal(userId, token.getSubject(), role);
+
+        return userDetailsService.loadTokenPrincipal(token.getSubject());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -1,47 +1,153 @@
 package com.jgl.TappedOut.conf;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtTokenProvider {
+    // ? Claims carried by the tokens so requests can be authorized without reading the user
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
+    // ! Keep it short: role changes reach stateless tokens only when they are refreshed
     @Value("${app.jwt.expiration-ms}")
     private int jwtExpiration;
 
-    public String generateToken(String username) {
+    @Value("${app.jwt.refresh-expiration-ms:604800000}")
+    private long refreshExpiration;
+
+    // ? Number of recently verified tokens remembered (0 disables it)
+    @Value("${app.jwt.verified-cache.max-size:1024}")
+    private int verifiedCacheSize;
+
+    // * Algorithm and verifiers are immutable and thread-safe, built once
+    private Algorithm algorithm;
+
+    private JWTVerifier verifier;
+
+    private JWTVerifier refreshVerifier;
+
+    // * Recently verified tokens keyed by the SHA-256 of the token (LRU)
+    private Map<String, DecodedJWT> verified;
+
+    @PostConstruct
+    void init() {
+        algorithm = Algorithm.HMAC512(jwtSecret.getBytes());
+        verifier = JWT.require(algorithm).build();
+        refreshVerifier = JWT.require(algorithm)
+                .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN)
+                .build();
+
+        verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DecodedJWT> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Generates a short lived access token with the user ID and role as claims
+     */
+    public String generateAccessToken(Long userId, String email, String role) {
         return JWT.create()
-                .withSubject(username)
+                .withSubject(email)
+                .withClaim(USER_ID_CLAIM, userId)
+                .withClaim(ROLE_CLAIM, role)
+                .withClaim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN)
                 .withIssuedAt(new Date())
                 .withExpiresAt(new Date(System.currentTimeMillis() + jwtExpiration))
-                .sign(Algorithm.HMAC512(jwtSecret.getBytes()));
+                .sign(algorithm);
+    }
+
+    /**
+     * Generates a long lived refresh token, only valid at /auth/refresh
+     */
+    public String generateRefreshToken(Long userId, String email) {
+        return JWT.create()
+                .withSubject(email)
+                .withClaim(USER_ID_CLAIM, userId)
+                .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN)
+                .withIssuedAt(new Date())
+                .withExpiresAt(new Date(System.currentTimeMillis() + refreshExpiration))
+                .sign(algorithm);
+    }
+
+    /**
+     * Verifies the token signature and expiration in a single pass
+     * 
+     * ? A token already verified and not expired yet is returned from the cache,
+     * ? so clients repeating the same bearer token skip the HMAC and JSON parsing
+     * 
+     * @return the decoded token
+     * @throws JWTVerificationException if the token is not valid
+     */
+    public DecodedJWT verify(String token) {
+        if (verifiedCacheSize <= 0)
+            return verifier.verify(token);
+
+        String key = digest(token);
+
+        synchronized (verified) {
+            DecodedJWT cached = verified.get(key);
+            if (cached != null && isNotExpired(cached))
+                return cached;
+            if (cached != null) verified.remove(key);
+        }
+
+        DecodedJWT decoded = verifier.verify(token);
+
+        synchronized (verified) {
+            verified.put(key, decoded);
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Verifies a refresh token
+     * 
+     * @throws JWTVerificationException if the token is not valid or is not a refresh token
+     */
+    public DecodedJWT verifyRefreshToken(String token) {
+        return refreshVerifier.verify(token);
     }
 
-    public String getUsernameFromToken(String token) {
-        return JWT.require(Algorithm.HMAC512(jwtSecret))
-                .build()
-                .verify(token)
-                .getSubject();
+    private boolean isNotExpired(DecodedJWT token) {
+        Date expiresAt = token.getExpiresAt();
+        return expiresAt == null || expiresAt.getTime() > System.currentTimeMillis();
     }
 
-    public boolean validateToken(String token) {
+    private String digest(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(jwtSecret))
-                    .build()
-                    .verify(token);
-            return true;
-        } catch (JWTVerificationException e) {
-            return false;
-        } catch (Exception e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // ! Every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.jgl.TappedOut.conf;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the metrics not provided by Actuator
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+public class MetricsConfig {
+    /**
+     * Registers the per request SQL statement counter in Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
@@ -0,0 +1,17 @@
+package com.jgl.TappedOut.conf;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class to enable the scheduled jobs
+ * (outbox dispatcher, event reminders...)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.jgl.TappedOut.conf;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,10 +17,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.jgl.TappedOut.controller.EventRestController;
+
 /**
  * Configuration class for Spring Security
  * 
@@ -37,6 +43,10 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthEntryPoint;
 
+    // ? -1 when the actuator endpoints share the application port
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -53,6 +63,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList(EventRestController.NEXT_CURSOR_HEADER, "X-Total-Count", "Content-Disposition"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -78,6 +89,12 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/sport/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/upcoming/**").permitAll()
 
+                // * Monitoring: health is public and Prometheus can scrape without a token, but only
+                // * on the internal management port (see README). Any other actuator request needs an ADMIN token
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .requestMatchers(new AndRequestMatcher(onManagementPort(), AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/actuator/prometheus"))).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 // * User creation (Registering)
                 .requestMatchers(HttpMethod.POST, "/user").permitAll()
                 .requestMatchers(HttpMethod.POST, "/user/").permitAll()
@@ -87,6 +104,8 @@ public class SecurityConfig {
                 .requestMatchers("/auth/login/").permitAll()
                 .requestMatchers("/auth/register").permitAll()
                 .requestMatchers("/auth/register/").permitAll()
+                .requestMatchers("/auth/refresh").permitAll()
+                .requestMatchers("/auth/refresh/").permitAll()
                 .requestMatchers("/auth/validate").permitAll()
                 .requestMatchers("/auth/validate/").permitAll()
 
@@ -240,4 +259,11 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * Requests received on the management port, never true when it is the application port
+     */
+    private RequestMatcher onManagementPort() {
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort;
+    }
 }
\ No newline at end of file
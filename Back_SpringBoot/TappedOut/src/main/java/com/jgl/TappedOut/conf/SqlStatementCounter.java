@@ -0,0 +1,37 @@
+package com.jgl.TappedOut.conf;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread
+ * 
+ * ? Registered as Hibernate statement inspector, it never changes the SQL.
+ * ? The count is reset at the start of every request by {@link SqlStatementMetricsFilter}
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Resets the count of the current thread
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Retrieves the statements prepared by the current thread since the last reset
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
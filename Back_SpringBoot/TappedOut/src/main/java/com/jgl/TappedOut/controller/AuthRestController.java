@@ -16,14 +16,18 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.jgl.TappedOut.conf.JwtTokenProvider;
 import com.jgl.TappedOut.dto.LoginRequestDTO;
 import com.jgl.TappedOut.dto.LoginResponseDTO;
+import com.jgl.TappedOut.dto.RefreshTokenRequestDTO;
 import com.jgl.TappedOut.dto.RegisterRequestDTO;
 import com.jgl.TappedOut.models.User;
 import com.jgl.TappedOut.repositories.GenderRepository;
 import com.jgl.TappedOut.repositories.UserRepository;
 import com.jgl.TappedOut.repositories.UserTypeRepository;
+import com.jgl.TappedOut.service.UserSearchIndex;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
@@ -56,6 +60,9 @@ public class AuthRestController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
     /**
      * Endpoint to login
      * POST /auth/login
@@ -68,21 +75,11 @@ public class AuthRestController {
             );
             
             UserDetails details = (UserDetails) auth.getPrincipal();
-            String token = jwtTokenProvider.generateToken(details.getUsername());
 
-            User user = userRepository.findByEmail(dto.getEmail())
+            User user = userRepository.findByEmail(details.getUsername())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-            LoginResponseDTO response = new LoginResponseDTO();
-            response.setToken(token);
-            response.setTokenType("Bearer");
-            response.setUserId(user.getId());
-            response.setEmail(user.getEmail().trim().toLowerCase());
-            response.setFirstName(user.getFirstName().trim());
-            response.setLastName(user.getLastName().trim());
-            response.setUserType(user.getTypeId().getName().trim().toUpperCase());
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(buildLoginResponse(user));
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(401).body("Invalid credentials");
         } catch (Exception e) {
@@ -130,19 +127,36 @@ public class AuthRestController {
             }
 
             User saved = userRepository.save(user);
+            userSearchIndex.put(saved.getId(), saved.getFirstName(), saved.getLastName(), saved.getEmail());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(buildLoginResponse(saved));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Internal server error");
+        }
+    }
+
+    /**
+     * Endpoint to refresh the access token
+     * POST /auth/refresh
+     * 
+     * ? The user is read again so role changes and deletions are applied to the new tokens
+     */
+    @PostMapping({"/refresh", "/refresh/"})
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequestDTO dto) {
+        try {
+            DecodedJWT refreshToken = jwtTokenProvider.verifyRefreshToken(dto.getRefreshToken());
+            Long userId = refreshToken.getClaim(JwtTokenProvider.USER_ID_CLAIM).asLong();
 
-            String token = jwtTokenProvider.generateToken(saved.getEmail().trim().toLowerCase());
+            User user = userRepository.findById(userId)
+                .filter(u -> u.getEmail().equalsIgnoreCase(refreshToken.getSubject()))
+                .orElse(null);
 
-            LoginResponseDTO response = new LoginResponseDTO();
-            response.setToken(token);
-            response.setTokenType("Bearer");
-            response.setUserId(saved.getId());
-            response.setEmail(saved.getEmail().trim().toLowerCase());
-            response.setFirstName(saved.getFirstName().trim());
-            response.setLastName(saved.getLastName().trim());
-            response.setUserType(saved.getTypeId().getName().trim().toUpperCase());
+            if (user == null)
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
 
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.ok(buildLoginResponse(user));
+        } catch (JWTVerificationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Internal server error");
         }
@@ -160,12 +174,9 @@ public class AuthRestController {
             }
 
             String token = authHeader.substring(7);
-            
-            if (!jwtTokenProvider.validateToken(token)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
-            }
 
-            String email = jwtTokenProvider.getUsernameFromToken(token);
+            // ! Throws if the token is not valid (handled below as unauthorized)
+            String email = jwtTokenProvider.verify(token).getSubject();
             User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
@@ -182,6 +193,25 @@ public class AuthRestController {
         }
     }
 
+    /**
+     * Issues a new pair of access/refresh tokens for the user
+     */
+    private LoginResponseDTO buildLoginResponse(User user) {
+        String email = user.getEmail().trim().toLowerCase();
+        String userType = user.getTypeId().getName().trim().toUpperCase();
+
+        LoginResponseDTO response = new LoginResponseDTO();
+        response.setToken(jwtTokenProvider.generateAccessToken(user.getId(), email, userType));
+        response.setRefreshToken(jwtTokenProvider.generateRefreshToken(user.getId(), email));
+        response.setTokenType("Bearer");
+        response.setUserId(user.getId());
+        response.setEmail(email);
+        response.setFirstName(user.getFirstName().trim());
+        response.setLastName(user.getLastName().trim());
+        response.setUserType(userType);
+
+        return response;
+    }
 
     public static class TokenValidationResponse {
         private boolean valid;
@@ -202,8 +202,10 @@ public class CategoryRestController {
      * @param maxAge Maximum age (optional)
      * @param minWeight Minimum weight (optional)
      * @param maxWeight Maximum weight (optional)
+     * @param sort Field to sort by, with an optional direction: name, minAge, maxAge, minWeight or maxWeight (optional)
      * @return List of CategoryResponseDTO
      * @throws EntityNotFoundException if sport, gender or level not found
+     * @throws IllegalArgumentException if the sort field or direction is not valid
      */
     @GetMapping({"/search", "/search/"})
     @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER', 'COMPETITOR')")
@@ -216,7 +218,8 @@ public class CategoryRestController {
             @Parameter(name = "minAge", description = "Minimum age", example = "18", required = false),
             @Parameter(name = "maxAge", description = "Maximum age", example = "30", required = false),
             @Parameter(name = "minWeight", description = "Minimum weight in kg", example = "70.5", required = false),
-            @Parameter(name = "maxWeight", description = "Maximum weight in kg", example = "80.0", required = false)
+            @Parameter(name = "maxWeight", description = "Maximum weight in kg", example = "80.0", required = false),
+            @Parameter(name = "sort", description = "Field to sort by (name, minAge, maxAge, minWeight, maxWeight) and direction", example = "minWeight,desc", required = false)
         },
         responses = {
             @ApiResponse(
@@ -225,6 +228,10 @@ public class CategoryRestController {
                 content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = CategoryResponseDTO.class))
             ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid sort field or direction"
+            ),
             @ApiResponse(
                 responseCode = "404",
                 description = "Sport, gender or level not found",
@@ -239,9 +246,9 @@ public class CategoryRestController {
             )
         }
     )
-    public ResponseEntity<List<CategoryResponseDTO>> searchCategories(@RequestParam("sportId") Long sportId, @RequestParam("genderId") Long genderId,  @RequestParam(value = "levelId", required = false) Long levelId, @RequestParam(value = "minAge", required = false) Integer minAge, @RequestParam(value = "maxAge", required = false) Integer maxAge, @RequestParam(value = "minWeight", required = false) BigDecimal minWeight, @RequestParam(value = "maxWeight", required = false) BigDecimal maxWeight) {
+    public ResponseEntity<List<CategoryResponseDTO>> searchCategories(@RequestParam("sportId") Long sportId, @RequestParam("genderId") Long genderId,  @RequestParam(value = "levelId", required = false) Long levelId, @RequestParam(value = "minAge", required = false) Integer minAge, @RequestParam(value = "maxAge", required = false) Integer maxAge, @RequestParam(value = "minWeight", required = false) BigDecimal minWeight, @RequestParam(value = "maxWeight", required = false) BigDecimal maxWeight, @RequestParam(value = "sort", required = false) String sort) {
         List<CategoryResponseDTO> categories = categoryService.searchCategories(
-            sportId, genderId, levelId, minAge, maxAge, minWeight, maxWeight);
+            sportId, genderId, levelId, minAge, maxAge, minWeight, maxWeight, sort);
         return ResponseEntity.ok(categories);
     }
 
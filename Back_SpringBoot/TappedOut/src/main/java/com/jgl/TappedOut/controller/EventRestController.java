@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,11 +17,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import com.jgl.TappedOut.service.EventService;
 import com.jgl.TappedOut.service.PermissionsService;
 import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.EventSliceDTO;
+import com.jgl.TappedOut.dto.EventSearchFilterDTO;
+import com.jgl.TappedOut.dto.EventSearchPageDTO;
 import com.jgl.TappedOut.dto.EventCreateDTO;
 import com.jgl.TappedOut.dto.EventUpdateDTO;
 import com.jgl.TappedOut.models.EventStatus;
@@ -37,6 +43,12 @@ import com.jgl.TappedOut.dto.CategoryResponseDTO;
 @RequestMapping("/event")
 @Tag(name = "Event", description = "API Endpoints for Event")
 public class EventRestController {
+    /**
+     * Response header carrying the continuation token of paginated listings
+     * ? Absent when the returned page is the last one
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private EventService eventService;
 
@@ -46,13 +58,19 @@ public class EventRestController {
 
     /**
      * GET /event
-     * Retrieves all events
+     * Retrieves a page of events ordered by start date
      * 
+     * @param cursor Continuation token (optional)
+     * @param size Page size (optional)
      * @return List of EventResponseDTO
      */
     @GetMapping({"", "/"})
     @Operation(
-        summary = "Retrieves all events",
+        summary = "Retrieves a page of events ordered by start date",
+        parameters = {
+            @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
+        },
         responses = {
             @ApiResponse(
                 responseCode = "200",
@@ -68,23 +86,27 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> getAllEvents() {
-        List<EventResponseDTO> events = eventService.getAllEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponseDTO>> getAllEvents(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        EventSliceDTO events = eventService.getAllEvents(cursor, size);
+        return toPageResponse(events);
     }
 
     /**
      * GET /event/sport/{sportId}
-     * Retrieves events by sport ID
+     * Retrieves a page of events by sport ID
      * 
      * @param sportId Sport ID
+     * @param cursor Continuation token (optional)
+     * @param size Page size (optional)
      * @return List of EventResponseDTO
      */
     @GetMapping({"/sport/{sportId}", "/sport/{sportId}/"})
     @Operation(
         summary = "Retrieves all events for a specific sport",
         parameters = {
-            @Parameter(name = "sportId", description = "Sport ID", example = "1", required = true)
+            @Parameter(name = "sportId", description = "Sport ID", example = "1", required = true),
+            @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
         },
         responses = {
             @ApiResponse(
@@ -107,9 +129,9 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> getEventsBySport(@PathVariable("sportId") Long sportId) {
-        List<EventResponseDTO> events = eventService.getEventsBySportId(sportId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponseDTO>> getEventsBySport(@PathVariable("sportId") Long sportId, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        EventSliceDTO events = eventService.getEventsBySportId(sportId, cursor, size);
+        return toPageResponse(events);
     }
 
     /**
@@ -154,9 +176,11 @@ public class EventRestController {
 
     /**
      * GET /event/status/{status}
-     * Retrieves events by status
+     * Retrieves a page of events by status
      * 
      * @param status Event status
+     * @param cursor Continuation token (optional)
+     * @param size Page size (optional)
      * @return List of EventResponseDTO
      */
     @GetMapping({"/status/{status}", "/status/{status}/"})
@@ -164,7 +188,9 @@ public class EventRestController {
     @Operation(
         summary = "Retrieves all events by status",
         parameters = {
-            @Parameter(name = "status", description = "Event status", example = "PLANNED", required = true)
+            @Parameter(name = "status", description = "Event status", example = "PLANNED", required = true),
+            @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
         },
         responses = {
             @ApiResponse(
@@ -181,9 +207,9 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> getEventsByStatus(@PathVariable("status") EventStatus status) {
-        List<EventResponseDTO> events = eventService.getEventsByStatus(status);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponseDTO>> getEventsByStatus(@PathVariable("status") EventStatus status, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        EventSliceDTO events = eventService.getEventsByStatus(status, cursor, size);
+        return toPageResponse(events);
     }
 
     /**
@@ -224,13 +250,19 @@ public class EventRestController {
 
     /**
      * GET /event/upcoming
-     * Retrieves upcoming events
+     * Retrieves a page of upcoming events
      * 
+     * @param cursor Continuation token (optional)
+     * @param size Page size (optional)
      * @return List of EventResponseDTO
      */
     @GetMapping({"/upcoming", "/upcoming/"})
     @Operation(
-        summary = "Retrieves upcoming events",
+        summary = "Retrieves a page of upcoming events",
+        parameters = {
+            @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
+        },
         responses = {
             @ApiResponse(
                 responseCode = "200",
@@ -246,21 +278,27 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> getUpcomingEvents() {
-        List<EventResponseDTO> events = eventService.getUpcomingEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponseDTO>> getUpcomingEvents(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        EventSliceDTO events = eventService.getUpcomingEvents(cursor, size);
+        return toPageResponse(events);
     }
 
     /**
      * GET /event/past
-     * Retrieves past events
+     * Retrieves a page of past events (most recent first)
      * 
+     * @param cursor Continuation token (optional)
+     * @param size Page size (optional)
      * @return List of EventResponseDTO
      */
     @GetMapping({"/past", "/past/"})
     @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER', 'COMPETITOR')")
     @Operation(
-        summary = "Retrieves past events",
+        summary = "Retrieves a page of past events",
+        parameters = {
+            @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
+        },
         responses = {
             @ApiResponse(
                 responseCode = "200",
@@ -276,18 +314,29 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> getPastEvents() {
-        List<EventResponseDTO> events = eventService.getPastEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponseDTO>> getPastEvents(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        EventSliceDTO events = eventService.getPastEvents(cursor, size);
+        return toPageResponse(events);
     }
 
     /**
      * GET /event/search
      * Searches events by filters
      * 
-     * @param sportId Sport ID (optional)
-     * @param country Country name (optional)
-     * @param city City name (optional)
+     * ? Every word of the query must match a word (or its start) of the name, description,
+     * ? city or country, ignoring accents. Results are ordered by relevance
+     * 
+     * ? Filters can be repeated (sportId=1&sportId=2): values of the same filter are
+     * ? combined with OR, different filters with AND
+     * 
+     * @param sportIds Sport IDs (optional)
+     * @param statuses Event statuses (optional)
+     * @param countries Country names (optional, partial match)
+     * @param cities City names (optional, partial match)
+     * @param from First start day (optional)
+     * @param to Last start day (optional)
+     * @param minFee Minimum registration fee (optional)
+     * @param maxFee Maximum registration fee (optional)
      * @param query Search term (optional)
      * @return List of EventResponseDTO
      */
@@ -296,9 +345,14 @@ public class EventRestController {
     @Operation(
         summary = "Searches events by filters",
         parameters = {
-            @Parameter(name = "sportId", description = "Sport ID", example = "1", required = false),
-            @Parameter(name = "country", description = "Country name", example = "Spain", required = false),
-            @Parameter(name = "city", description = "City name", example = "Madrid", required = false),
+            @Parameter(name = "sportId", description = "Sport ID (repeatable)", example = "1", required = false),
+            @Parameter(name = "status", description = "Event status (repeatable)", example = "PLANNED", required = false),
+            @Parameter(name = "country", description = "Country name (repeatable)", example = "Spain", required = false),
+            @Parameter(name = "city", description = "City name (repeatable)", example = "Madrid", required = false),
+            @Parameter(name = "from", description = "First start day", example = "2025-06-01", required = false),
+            @Parameter(name = "to", description = "Last start day", example = "2025-06-30", required = false),
+            @Parameter(name = "minFee", description = "Minimum registration fee", example = "0", required = false),
+            @Parameter(name = "maxFee", description = "Maximum registration fee", example = "50", required = false),
             @Parameter(name = "query", description = "Search term", example = "tournament", required = false)
         },
         responses = {
@@ -308,6 +362,10 @@ public class EventRestController {
                 content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = EventResponseDTO.class))
             ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid date or fee range"
+            ),
             @ApiResponse(
                 responseCode = "500",
                 description = "Internal server error",
@@ -316,11 +374,94 @@ public class EventRestController {
             )
         }
     )
-    public ResponseEntity<List<EventResponseDTO>> searchEvents(@RequestParam(value = "sportId", required = false) Long sportId, @RequestParam(value = "country", required = false) String country, @RequestParam(value = "city", required = false) String city, @RequestParam(value = "query", required = false) String query) {
-        List<EventResponseDTO> events = eventService.searchEvents(sportId, country, city, query);
+    public ResponseEntity<List<EventResponseDTO>> searchEvents(
+            @RequestParam(value = "sportId", required = false) List<Long> sportIds,
+            @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+            @RequestParam(value = "country", required = false) List<String> countries,
+            @RequestParam(value = "city", required = false) List<String> cities,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "minFee", required = false) BigDecimal minFee,
+            @RequestParam(value = "maxFee", required = false) BigDecimal maxFee,
+            @RequestParam(value = "query", required = false) String query) {
+        List<EventResponseDTO> events = eventService.searchEvents(
+            new EventSearchFilterDTO(sportIds, statuses, countries, cities, from, to, minFee, maxFee, query));
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * GET /event/search/faceted
+     * Searches one page of events by filters, with the number of events of every facet value
+     * 
+     * ? Same filters and order as /event/search. Facets (sport, status, country, city) are
+     * ? counted without their own filter, so the values not selected yet keep their counts
+     * 
+     * @param sportIds Sport IDs (optional)
+     * @param statuses Event statuses (optional)
+     * @param countries Country names (optional, partial match)
+     * @param cities City names (optional, partial match)
+     * @param from First start day (optional)
+     * @param to Last start day (optional)
+     * @param minFee Minimum registration fee (optional)
+     * @param maxFee Maximum registration fee (optional)
+     * @param query Search term (optional)
+     * @param page Page number, starting at 0 (optional)
+     * @param size Page size (optional)
+     * @return EventSearchPageDTO
+     */
+    @GetMapping({"/search/faceted", "/search/faceted/"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER', 'COMPETITOR')")
+    @Operation(
+        summary = "Searches a page of events by filters with facet counts",
+        parameters = {
+            @Parameter(name = "sportId", description = "Sport ID (repeatable)", example = "1", required = false),
+            @Parameter(name = "status", description = "Event status (repeatable)", example = "PLANNED", required = false),
+            @Parameter(name = "country", description = "Country name (repeatable)", example = "Spain", required = false),
+            @Parameter(name = "city", description = "City name (repeatable)", example = "Madrid", required = false),
+            @Parameter(name = "from", description = "First start day", example = "2025-06-01", required = false),
+            @Parameter(name = "to", description = "Last start day", example = "2025-06-30", required = false),
+            @Parameter(name = "minFee", description = "Minimum registration fee", example = "0", required = false),
+            @Parameter(name = "maxFee", description = "Maximum registration fee", example = "50", required = false),
+            @Parameter(name = "query", description = "Search term", example = "tournament", required = false),
+            @Parameter(name = "page", description = "Page number, starting at 0", example = "0", required = false),
+            @Parameter(name = "size", description = "Page size", example = "20", required = false)
+        },
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Found matching events and facet counts",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = EventSearchPageDTO.class))
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid date or fee range, page or page size"
+            ),
+            @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = EventSearchPageDTO.class))
+            )
+        }
+    )
+    public ResponseEntity<EventSearchPageDTO> searchEventsFaceted(
+            @RequestParam(value = "sportId", required = false) List<Long> sportIds,
+            @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+            @RequestParam(value = "country", required = false) List<String> countries,
+            @RequestParam(value = "city", required = false) List<String> cities,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "minFee", required = false) BigDecimal minFee,
+            @RequestParam(value = "maxFee", required = false) BigDecimal maxFee,
+            @RequestParam(value = "query", required = false) String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        EventSearchPageDTO result = eventService.searchEventsFaceted(
+            new EventSearchFilterDTO(sportIds, statuses, countries, cities, from, to, minFee, maxFee, query), page, size);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * GET /event/{id}
      * Retrieves an event by ID
@@ -613,4 +754,21 @@ public class EventRestController {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Builds the response of a paginated listing
+     * ? The body keeps being the list of events, the continuation token
+     * ? travels in the X-Next-Cursor header
+     * 
+     * @param slice the page of events
+     * @return ResponseEntity with the events and the next cursor (if any)
+     */
+    private ResponseEntity<List<EventResponseDTO>> toPageResponse(EventSliceDTO slice) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (slice.getNextCursor() != null)
+            response.header(NEXT_CURSOR_HEADER, slice.getNextCursor());
+
+        return response.body(slice.getContent());
+    }
 }
\ No newline at end of file
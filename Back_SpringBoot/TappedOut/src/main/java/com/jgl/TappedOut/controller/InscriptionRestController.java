@@ -1,5 +1,6 @@
 package com.jgl.TappedOut.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -13,8 +14,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.jgl.TappedOut.dto.InscriptionCreateDTO;
@@ -308,6 +311,66 @@ public class InscriptionRestController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * GET /inscription/event/{eventId}/export
+     * Downloads every inscription of an event as NDJSON or CSV
+     * 
+     * ? Rows are streamed straight to the response, the list is never held in memory
+     * 
+     * @param eventId Event ID
+     * @param format Export format (ndjson or csv)
+     * @param response HttpServletResponse to write the file to
+     * @throws EntityNotFoundException if event not found
+     * @throws IllegalArgumentException if format is not supported
+     */
+    @GetMapping({"/event/{eventId}/export", "/event/{eventId}/export/"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER') and @permissionsService.canSeeInscriptions(#eventId)")
+    @Operation(
+        summary = "Downloads every inscription of an event as NDJSON or CSV",
+        parameters = {
+            @Parameter(name = "eventId", description = "Event ID", example = "1", required = true),
+            @Parameter(name = "format", description = "Export format (ndjson or csv)", example = "csv")
+        },
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Inscriptions of the event, one per line",
+                content = {
+                    @Content(mediaType = "application/x-ndjson"),
+                    @Content(mediaType = "text/csv")
+                }
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Unsupported export format"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Event not found"
+            ),
+            @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+        }
+    )
+    public void exportInscriptionsByEvent(@PathVariable("eventId") Long eventId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        // * Resolved before writing anything so a missing event still gets a regular error response
+        Long total = inscriptionService.countInscriptionsByEvent(eventId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"event-" + eventId + "-inscriptions." + exportFormat.getExtension() + "\"");
+        response.setHeader("X-Total-Count", String.valueOf(total));
+
+        inscriptionService.exportInscriptionsByEvent(eventId, exportFormat, response.getOutputStream());
+    }
+
     /**
      * GET /inscription/{id}
      * Retrieves an inscription by ID
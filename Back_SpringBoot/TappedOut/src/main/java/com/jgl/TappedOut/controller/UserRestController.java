@@ -194,9 +194,12 @@ public class UserRestController {
 
     /**
      * GET /user/search
-     * Retrieves all users by NAME or EMAIL
+     * Retrieves the users best matching a NAME or EMAIL (autocomplete)
+     * 
+     * ? Every word must start a word of the name or email, or be part of it (3+ letters)
      * 
      * @param query Search term
+     * @param size Max number of users (optional)
      * @return List of UserResponseDTO
      */
     @GetMapping({"/search", "/search/"})
@@ -204,7 +207,8 @@ public class UserRestController {
     @Operation(
         summary = "Retrieves all users by name or email",
         parameters = {
-            @Parameter(name = "query", description = "Search term", example = "John", required = true)
+            @Parameter(name = "query", description = "Search term", example = "John", required = true),
+            @Parameter(name = "size", description = "Max number of users", example = "20", required = false)
         },
         responses = {
             @ApiResponse(
@@ -213,6 +217,10 @@ public class UserRestController {
                 content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = UserResponseDTO.class))
             ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid size"
+            ),
             @ApiResponse(
                 responseCode = "500",
                 description = "Internal server error",
@@ -221,8 +229,8 @@ public class UserRestController {
             )
         }
     )
-    public ResponseEntity<List<UserResponseDTO>> searchUsers(@RequestParam("query") String query) {
-        List<UserResponseDTO> users = userService.searchUsers(query);
+    public ResponseEntity<List<UserResponseDTO>> searchUsers(@RequestParam("query") String query, @RequestParam(value = "size", required = false) Integer size) {
+        List<UserResponseDTO> users = userService.searchUsers(query, size);
         return ResponseEntity.ok(users);
     }
 
@@ -0,0 +1,42 @@
+package com.jgl.TappedOut.dto;
+
+import java.math.BigDecimal;
+
+import com.jgl.TappedOut.repositories.CategorySort;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the filters and order of a category search
+ * 
+ * ? Sport and gender are mandatory, the rest are optional. Ages and weights match
+ * ? the categories whose range includes them (a category without a bound matches any)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySearchFilterDTO {
+    private Long sportId;
+
+    private Long genderId;
+
+    private Long levelId;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private BigDecimal minWeight;
+
+    private BigDecimal maxWeight;
+
+    private CategorySort sort;
+
+    private boolean descending;
+}
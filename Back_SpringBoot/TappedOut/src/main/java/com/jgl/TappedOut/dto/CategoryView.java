@@ -0,0 +1,34 @@
+package com.jgl.TappedOut.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of a category, selected column by column by the repositories
+ * 
+ * ? The flat constructor is the one used by the JPQL constructor expressions,
+ * ? it builds the nested sport, gender and (optional) level
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public record CategoryView(
+    Long id,
+    String name,
+    Integer minAge,
+    Integer maxAge,
+    BigDecimal minWeight,
+    BigDecimal maxWeight,
+    SportResponseDTO sport,
+    GenderResponseDTO gender,
+    SportLevelResponseDTO level
+) {
+    public CategoryView(Long id, String name, Integer minAge, Integer maxAge, BigDecimal minWeight, BigDecimal maxWeight,
+            Long sportId, String sportName, Long genderId, String genderName,
+            Long levelId, String levelName, Long levelSportId, String levelSportName) {
+        this(id, name, minAge, maxAge, minWeight, maxWeight,
+            new SportResponseDTO(sportId, sportName),
+            new GenderResponseDTO(genderId, genderName),
+            levelId == null ? null : new SportLevelResponseDTO(levelId, levelName, new SportResponseDTO(levelSportId, levelSportName)));
+    }
+}
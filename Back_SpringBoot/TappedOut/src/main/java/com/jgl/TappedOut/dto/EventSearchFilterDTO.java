@@ -0,0 +1,47 @@
+package com.jgl.TappedOut.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.jgl.TappedOut.models.EventStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the filters of an event search
+ * 
+ * ? Every filter is optional. Values of the same filter are combined with OR,
+ * ? different filters with AND (sport 1 or 2, and status PLANNED, and in Madrid)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchFilterDTO {
+    private List<Long> sportIds;
+
+    private List<EventStatus> statuses;
+
+    // ? Partial match, ignoring case and accents
+    private List<String> countries;
+
+    private List<String> cities;
+
+    // ? Start day range, both inclusive
+    private LocalDate from;
+
+    private LocalDate to;
+
+    // ? Registration fee range, both inclusive
+    private BigDecimal minFee;
+
+    private BigDecimal maxFee;
+
+    private String query;
+}
@@ -0,0 +1,35 @@
+package com.jgl.TappedOut.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one page of an event search with the counts of every facet
+ * 
+ * ? Facets are keyed by name (sport, status, country, city). Each facet is counted
+ * ? without its own filter, so the other values show how many events they would add
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchPageDTO {
+    private List<EventResponseDTO> content;
+
+    private int page;
+
+    private int size;
+
+    private long totalElements;
+
+    private boolean hasNext;
+
+    private Map<String, List<FacetCountDTO>> facets;
+}
@@ -0,0 +1,24 @@
+package com.jgl.TappedOut.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one page (slice) of events retrieved with keyset pagination
+ * The next cursor is null when there are no more events to fetch
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSliceDTO {
+    private List<EventResponseDTO> content;
+
+    private String nextCursor;
+}
@@ -0,0 +1,50 @@
+package com.jgl.TappedOut.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.jgl.TappedOut.models.EventStatus;
+
+/**
+ * Read-only projection of an event, selected column by column by the repositories
+ * 
+ * ? The flat constructor is the one used by the JPQL constructor expressions,
+ * ? it builds the nested sport and organizer so the mapper can reuse their DTOs
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public record EventView(
+    Long id,
+    UserView organizer,
+    SportResponseDTO sport,
+    String name,
+    String description,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    EventStatus status,
+    String country,
+    String city,
+    String address,
+    String logo,
+    LocalDateTime createdAt,
+    BigDecimal registrationFee
+) {
+    public EventView(Long id, String name, String description, LocalDateTime startDate, LocalDateTime endDate,
+            EventStatus status, String country, String city, String address, String logo,
+            LocalDateTime createdAt, BigDecimal registrationFee, Long sportId, String sportName,
+            Long organizerId, String organizerDni, Long organizerTypeId, String organizerTypeName,
+            String organizerEmail, String organizerFirstName, String organizerLastName,
+            LocalDate organizerDateOfBirth, Long organizerGenderId, String organizerGenderName,
+            String organizerCountry, String organizerCity, Integer organizerPhone, String organizerAvatar,
+            Boolean organizerIsVerified, LocalDateTime organizerCreatedAt) {
+        this(id,
+            new UserView(organizerId, organizerDni, organizerTypeId, organizerTypeName, organizerEmail,
+                organizerFirstName, organizerLastName, organizerDateOfBirth, organizerGenderId, organizerGenderName,
+                organizerCountry, organizerCity, organizerPhone, organizerAvatar, organizerIsVerified, organizerCreatedAt),
+            new SportResponseDTO(sportId, sportName),
+            name, description, startDate, endDate, status, country, city, address, logo, createdAt, registrationFee);
+    }
+}
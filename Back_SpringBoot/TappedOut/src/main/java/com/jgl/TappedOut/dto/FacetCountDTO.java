@@ -0,0 +1,26 @@
+package com.jgl.TappedOut.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the number of events having a facet value
+ * 
+ * ? The key is the value to filter by (sport ID, status, country or city)
+ * ? and the label the text to show
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+    private String key;
+
+    private String label;
+
+    private long count;
+}
@@ -0,0 +1,42 @@
+package com.jgl.TappedOut.dto;
+
+import java.time.LocalDateTime;
+
+import com.jgl.TappedOut.models.PaymentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one row of the inscriptions export of an event
+ * Flat on purpose: it is built straight from the query, without loading entities
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InscriptionExportRowDTO {
+    private Long inscriptionId;
+
+    private Long competitorId;
+
+    private String dni;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private LocalDateTime registerDate;
+
+    private PaymentStatus paymentStatus;
+}
@@ -0,0 +1,30 @@
+package com.jgl.TappedOut.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a competitor that has to be reminded of an upcoming event
+ * Flat on purpose: it is built straight from the query, without loading entities
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderRecipientDTO {
+    private Long eventId;
+
+    private String eventName;
+
+    private LocalDateTime eventStartDate;
+
+    private Long competitorId;
+
+    private String email;
+}
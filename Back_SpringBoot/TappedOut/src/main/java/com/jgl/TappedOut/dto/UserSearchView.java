@@ -0,0 +1,15 @@
+package com.jgl.TappedOut.dto;
+
+/**
+ * Read-only projection of the user columns indexed for autocomplete
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public record UserSearchView(
+    Long id,
+    String firstName,
+    String lastName,
+    String email
+) {}
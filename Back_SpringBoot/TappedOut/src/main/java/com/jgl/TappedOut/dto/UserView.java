@@ -0,0 +1,39 @@
+package com.jgl.TappedOut.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an user, selected column by column by the repositories
+ * 
+ * ? The flat constructor is the one used by the JPQL constructor expressions,
+ * ? it builds the nested type and gender so the mapper can reuse their DTOs
+ * * The password hash is never selected
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public record UserView(
+    Long id,
+    String dni,
+    UserTypeResponseDTO type,
+    String email,
+    String firstName,
+    String lastName,
+    LocalDate dateOfBirth,
+    GenderResponseDTO gender,
+    String country,
+    String city,
+    Integer phone,
+    String avatar,
+    Boolean isVerified,
+    LocalDateTime createdAt
+) {
+    public UserView(Long id, String dni, Long typeId, String typeName, String email,
+            String firstName, String lastName, LocalDate dateOfBirth, Long genderId, String genderName,
+            String country, String city, Integer phone, String avatar, Boolean isVerified, LocalDateTime createdAt) {
+        this(id, dni, new UserTypeResponseDTO(typeId, typeName), email, firstName, lastName, dateOfBirth,
+            new GenderResponseDTO(genderId, genderName), country, city, phone, avatar, isVerified, createdAt);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.jgl.TappedOut.dto.CategoryCreateDTO;
 import com.jgl.TappedOut.dto.CategoryResponseDTO;
 import com.jgl.TappedOut.dto.CategoryUpdateDTO;
+import com.jgl.TappedOut.dto.CategoryView;
 import com.jgl.TappedOut.models.Category;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -54,6 +55,14 @@ public abstract class CategoryMapper {
     @Mapping(target = "level", source = "levelId")
     public abstract CategoryResponseDTO toResponseDTO(Category category);
 
+    /**
+     * Method to convert {@link CategoryView} projection into a {@link CategoryResponseDTO}
+     * 
+     * @param view the CategoryView to show
+     * @return the mapped response DTO
+     */
+    public abstract CategoryResponseDTO toResponseDTO(CategoryView view);
+
     /**
      * Method to convert {@link CategoryUpdateDTO} into a {@link Category}
      * 
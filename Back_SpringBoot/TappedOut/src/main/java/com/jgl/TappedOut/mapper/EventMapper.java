@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.jgl.TappedOut.dto.EventCreateDTO;
 import com.jgl.TappedOut.dto.EventResponseDTO;
 import com.jgl.TappedOut.dto.EventUpdateDTO;
+import com.jgl.TappedOut.dto.EventView;
 import com.jgl.TappedOut.models.Event;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -54,6 +55,14 @@ public abstract class EventMapper {
     @Mapping(target = "status", expression = "java(event.getStatus().toString())")
     public abstract EventResponseDTO toResponseDTO(Event event);
 
+    /**
+     * Method to convert {@link EventView} projection into a {@link EventResponseDTO}
+     * 
+     * @param view the EventView to show
+     * @return the mapped response DTO
+     */
+    public abstract EventResponseDTO toResponseDTO(EventView view);
+
     /**
      * Method to convert {@link EventUpdateDTO} into a {@link Event}
      * 
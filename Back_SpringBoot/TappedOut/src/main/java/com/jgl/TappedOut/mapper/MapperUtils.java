@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.jgl.TappedOut.models.*;
 import com.jgl.TappedOut.repositories.*;
+import com.jgl.TappedOut.service.ReferenceDataCache;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -28,23 +29,17 @@ public class MapperUtils {
     @Autowired
     private EventRepository eventRepo;
 
-    @Autowired
-    private GenderRepository genderRepo;
-
     @Autowired
     private InscriptionRepository inscriptionRepo;
-    
-    @Autowired
-    private SportRepository sportRepo;
 
     @Autowired
     private SportLevelRepository sportLevelRepo;
-
+    
     @Autowired
     private UserRepository userRepo;
 
     @Autowired
-    private UserTypeRepository userTypeRepo;
+    private ReferenceDataCache referenceDataCache;
 
     // * Finding methods
 
@@ -80,7 +75,7 @@ public class MapperUtils {
 
     /**
      * Helper method to find a {@link Gender} by ID
-     * ? Uses {@link GenderRepository}
+     * ? Uses {@link ReferenceDataCache}
      * 
      * @param genderId the id to find by
      * @return the gender found if any
@@ -89,13 +84,13 @@ public class MapperUtils {
     protected Gender mapGender(Long genderId) {
         if (genderId == null) return null;
 
-        return genderRepo.findById(genderId)
+        return referenceDataCache.findGender(genderId)
             .orElseThrow(() -> new EntityNotFoundException("Gender with ID: " + genderId + " not found"));
     }
 
     /**
      * Helper method to find a {@link Sport} by ID
-     * ? Uses {@link SportRepository}
+     * ? Uses {@link ReferenceDataCache}
      * 
      * @param sportId the id to find by
      * @return the sport found if any
@@ -104,14 +99,14 @@ public class MapperUtils {
     public Sport mapSport(Long sportId) {
         if (sportId == null) return null;
 
-        return sportRepo.findById(sportId)
+        return referenceDataCache.findSport(sportId)
             .orElseThrow(() -> new EntityNotFoundException("Sport with ID: " + sportId + " not found"));
     }
 
     /**
      * Helper method to find a {@link SportLevel} by ID
      * A SportLevel can be null
-     * ? Uses {link SportLevelRepository}
+     * ? Uses {@link ReferenceDataCache}
      * 
      * @param levelId the id to find by
      * @return the sport level found if any
@@ -120,7 +115,7 @@ public class MapperUtils {
     protected SportLevel mapLevel(Long levelId) {
         if (levelId == null) return null;
 
-        return sportLevelRepo.findById(levelId)
+        return referenceDataCache.findSportLevel(levelId)
             .orElseThrow(() -> new EntityNotFoundException("Sport Level with ID: " + levelId + " not found"));
     }
 
@@ -141,7 +136,7 @@ public class MapperUtils {
 
     /**
      * Helper methos to find a {@link UserType} by ID
-     * ? Uses {@link UserTypeRepository}
+     * ? Uses {@link ReferenceDataCache}
      * 
      * @param typeId the id to find by
      * @return the user type found if any
@@ -150,7 +145,7 @@ public class MapperUtils {
     public UserType mapUserType(Long typeId) {
         if (typeId == null) return null;
 
-        return userTypeRepo.findById(typeId)
+        return referenceDataCache.findUserType(typeId)
             .orElseThrow(() -> new EntityNotFoundException("User type with ID: " + typeId + " not found"));
     }
 
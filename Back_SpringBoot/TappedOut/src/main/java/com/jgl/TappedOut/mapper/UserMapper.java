@@ -12,6 +12,7 @@ import com.jgl.TappedOut.dto.UserCreateDTO;
 import com.jgl.TappedOut.dto.UserResponseDTO;
 import com.jgl.TappedOut.dto.UserSecurityDTO;
 import com.jgl.TappedOut.dto.UserUpdateDTO;
+import com.jgl.TappedOut.dto.UserView;
 import com.jgl.TappedOut.models.User;
 /**
  * Mapper for converting between {@link User} entities and DTOs.
@@ -56,6 +57,16 @@ public abstract class UserMapper {
     @Mapping(target = "genderId", source = "genderId")
     public abstract UserResponseDTO toResponseDTO(User user);
 
+    /**
+     * Method to convert {@link UserView} projection into a {@link UserResponseDTO}
+     * 
+     * @param view the UserView to show
+     * @return the response DTO (without password hash)
+     */
+    @Mapping(target = "genderId", source = "gender")
+    @Mapping(target = "passwordHash", ignore = true)
+    public abstract UserResponseDTO toResponseDTO(UserView view);
+
     /**
      * Method to update {@link User} from {@link UserUpdateDTO}
      * 
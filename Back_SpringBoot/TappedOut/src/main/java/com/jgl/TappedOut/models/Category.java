@@ -2,6 +2,7 @@ package com.jgl.TappedOut.models;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -28,6 +29,7 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "categories")
+@BatchSize(size = 50)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
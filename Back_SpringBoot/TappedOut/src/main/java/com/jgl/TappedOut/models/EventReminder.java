@@ -0,0 +1,57 @@
+package com.jgl.TappedOut.models;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a reminder already sent to a competitor for an event
+ * The unique (event, user) pair guarantees a reminder is never sent twice,
+ * even after a restart or with several nodes running the scheduler
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "event_reminders", uniqueConstraints = @UniqueConstraint(name = EventReminder.UNIQUE_EVENT_USER, columnNames = {"event_id", "user_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventReminder {
+    public static final String UNIQUE_EVENT_USER = "uk_event_reminders_event_user";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event eventId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User userId;
+
+    @CreationTimestamp
+    @Column(name = "sent_at", updatable = false)
+    private LocalDateTime sentAt;
+}
@@ -10,11 +10,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,30 +29,57 @@ import lombok.NoArgsConstructor;
  * Contains information about the registration date and payment status
  * 
  * @author Jorge García López
- * @version 1.1
+ * @version 1.2
  * @since 2025
  */
 @Entity
 @Table(name = "inscriptions")
+@NamedEntityGraph(name = Inscription.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "competitorId", subgraph = "user"),
+        @NamedAttributeNode(value = "eventId", subgraph = "event"),
+        @NamedAttributeNode(value = "categoryId", subgraph = "category")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "user", attributeNodes = {
+            @NamedAttributeNode("typeId"),
+            @NamedAttributeNode("genderId")
+        }),
+        @NamedSubgraph(name = "event", attributeNodes = {
+            @NamedAttributeNode("sportId"),
+            @NamedAttributeNode(value = "organizerId", subgraph = "user")
+        }),
+        @NamedSubgraph(name = "category", attributeNodes = {
+            @NamedAttributeNode("sportId"),
+            @NamedAttributeNode("genderId"),
+            @NamedAttributeNode(value = "levelId", subgraph = "level")
+        }),
+        @NamedSubgraph(name = "level", attributeNodes = @NamedAttributeNode("sportId"))
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Inscription {
+    /**
+     * Fetch plan with everything needed to build the response DTO in a single query
+     */
+    public static final String DETAIL_GRAPH = "Inscription.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "competitor_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User competitorId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Event eventId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Category categoryId;
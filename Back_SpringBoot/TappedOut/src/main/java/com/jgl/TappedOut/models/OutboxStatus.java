@@ -0,0 +1,17 @@
+package com.jgl.TappedOut.models;
+
+/**
+ * Represents the delivery stages of an {@link OutboxEmail}
+ * 
+ * ? PENDING: waiting to be sent (or retried)
+ * ? SENDING: claimed by a dispatcher
+ * ? SENT: delivered to the mail server
+ * ? DEAD: gave up after the max number of attempts
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public enum OutboxStatus {
+    PENDING, SENDING, SENT, DEAD
+}
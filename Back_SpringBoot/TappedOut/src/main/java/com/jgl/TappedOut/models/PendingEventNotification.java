@@ -0,0 +1,38 @@
+package com.jgl.TappedOut.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an event update notification waiting for its quiet period
+ * There is at most one per event: saving the event again only postpones it,
+ * and the state of the event at send time is the one notified
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "pending_event_notifications")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingEventNotification {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    // ? Caps the postponing, so an event edited non-stop is still notified
+    @Column(name = "max_due_at", nullable = false)
+    private LocalDateTime maxDueAt;
+}
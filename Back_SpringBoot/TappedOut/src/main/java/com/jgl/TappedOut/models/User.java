@@ -3,6 +3,7 @@ package com.jgl.TappedOut.models;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -32,6 +33,7 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "users", indexes = @Index(name = "idx_dni", columnList = "dni") )
+@BatchSize(size = 50)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
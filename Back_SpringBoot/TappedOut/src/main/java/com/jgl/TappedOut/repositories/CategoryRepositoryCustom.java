@@ -0,0 +1,24 @@
+package com.jgl.TappedOut.repositories;
+
+import java.util.List;
+
+import com.jgl.TappedOut.dto.CategorySearchFilterDTO;
+import com.jgl.TappedOut.dto.CategoryView;
+
+/**
+ * Category queries built at runtime, implemented by {@link CategoryRepositoryCustomImpl}
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public interface CategoryRepositoryCustom {
+    /**
+     * Finds categories matching the given filters, sorted by the given field and then by ID
+     * 
+     * @param filter sport and gender (mandatory), level, ages and weights (optional)
+     * 
+     * @return list of matching category views
+     */
+    List<CategoryView> searchViews(CategorySearchFilterDTO filter);
+}
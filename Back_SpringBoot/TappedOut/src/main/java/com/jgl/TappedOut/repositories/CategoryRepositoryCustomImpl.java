@@ -0,0 +1,76 @@
+package com.jgl.TappedOut.repositories;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jgl.TappedOut.dto.CategorySearchFilterDTO;
+import com.jgl.TappedOut.dto.CategoryView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPQL implementation of {@link CategoryRepositoryCustom}
+ *
+ * ? Selects the same columns as CategoryRepository.CATEGORY_VIEW_SELECT. Sport, gender
+ * ? and level are joined as entities and compared by the foreign key columns, so the
+ * ? WHERE clause is served by idx_categories_sport_gender_level (sport_id, gender_id, level_id)
+ * ? The query string only depends on the filters with a value and the sort (the shape),
+ * ? Hibernate caches its plan by the string
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+    // ? A join on c.sportId would turn c.sportId.id of the WHERE clause into the ID of the joined row
+    private static final String SEARCH_SELECT = "SELECT new com.jgl.TappedOut.dto.CategoryView(" +
+        "c.id, c.name, c.minAge, c.maxAge, c.minWeight, c.maxWeight, s.id, s.name, g.id, g.name, " +
+        "l.id, l.name, ls.id, ls.name) " +
+        "FROM Category c JOIN Sport s ON s.id = c.sportId.id JOIN Gender g ON g.id = c.genderId.id " +
+        "LEFT JOIN SportLevel l ON l.id = c.levelId.id LEFT JOIN l.sportId ls ";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryView> searchViews(CategorySearchFilterDTO filter) {
+        QueryFilters filters = new QueryFilters()
+            .with("sport", filter.getSportId())
+            .with("gender", filter.getGenderId())
+            .with("level", filter.getLevelId())
+            .with("minAge", filter.getMinAge())
+            .with("maxAge", filter.getMaxAge())
+            .with("minWeight", filter.getMinWeight())
+            .with("maxWeight", filter.getMaxWeight());
+
+        String jpql = SEARCH_SELECT + filters.where()
+            .equal("sport", "c.sportId.id")
+            .equal("gender", "c.genderId.id")
+            .equal("level", "c.levelId.id")
+            .atMostOrUnbounded("minAge", "c.minAge")
+            .atLeastOrUnbounded("maxAge", "c.maxAge")
+            .atMostOrUnbounded("minWeight", "c.minWeight")
+            .atLeastOrUnbounded("maxWeight", "c.maxWeight")
+            .clause() + orderBy(filter);
+
+        log.debug("Category search\n\tShape: {}", filters.shape());
+
+        return filters.bind(em.createQuery(jpql, CategoryView.class)).getResultList();
+    }
+
+    /**
+     * Sorts by the requested field, ties (and unsorted searches) by ID so the order is always the same
+     *
+     * ? The field comes from {@link CategorySort}, never from the client text itself
+     */
+    private static String orderBy(CategorySearchFilterDTO filter) {
+        if (filter.getSort() == null) return "ORDER BY c.id";
+
+        return "ORDER BY c." + filter.getSort().attribute() + (filter.isDescending() ? " DESC" : " ASC") + ", c.id";
+    }
+}
@@ -0,0 +1,46 @@
+package com.jgl.TappedOut.repositories;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Fields a category search can be sorted by
+ * 
+ * ? The client sends the name ("minAge"), only these attributes ever reach the ORDER BY
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public enum CategorySort {
+    NAME("name"),
+    MIN_AGE("minAge"),
+    MAX_AGE("maxAge"),
+    MIN_WEIGHT("minWeight"),
+    MAX_WEIGHT("maxWeight");
+
+    private final String attribute;
+
+    CategorySort(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Finds the sort field by its name
+     * 
+     * @param name attribute name sent by the client
+     * @return the sort field
+     * @throws IllegalArgumentException if the field can not be sorted by
+     */
+    public static CategorySort fromAttribute(String name) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.attribute.equalsIgnoreCase(name.trim()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Categories can not be sorted by " + name + ", use one of: " +
+                Arrays.stream(values()).map(CategorySort::attribute).collect(Collectors.joining(", "))));
+    }
+}
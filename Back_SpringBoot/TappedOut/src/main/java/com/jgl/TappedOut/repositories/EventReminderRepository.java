@@ -0,0 +1,17 @@
+package com.jgl.TappedOut.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jgl.TappedOut.models.EventReminder;
+
+/**
+ * Repository interface for managing {@link EventReminder} entities
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface EventReminderRepository extends JpaRepository<EventReminder, Long> {
+}
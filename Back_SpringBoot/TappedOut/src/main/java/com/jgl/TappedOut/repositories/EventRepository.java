@@ -1,16 +1,18 @@
 package com.jgl.TappedOut.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jgl.TappedOut.dto.EventView;
 import com.jgl.TappedOut.models.Event;
 import com.jgl.TappedOut.models.EventStatus;
-import com.jgl.TappedOut.models.Sport;
 import com.jgl.TappedOut.models.User;
 
 /**
@@ -24,56 +26,223 @@ import com.jgl.TappedOut.models.User;
  */
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findBySportId(Sport sportId);
+    /**
+     * Select clause shared by the read-only listings
+     * 
+     * ? Reads only the columns needed by the response straight into {@link EventView},
+     * ? so no entity is loaded into the persistence context.
+     * ? The sport is joined as an entity, a join on e.sportId would turn every
+     * ? e.sportId.id of the WHERE clause into the ID of the joined sports row
+     */
+    String EVENT_VIEW_SELECT = "SELECT new com.jgl.TappedOut.dto.EventView(" +
+        "e.id, e.name, e.description, e.startDate, e.endDate, e.status, e.country, e.city, e.address, e.logo, " +
+        "e.createdAt, e.registrationFee, s.id, s.name, " +
+        "o.id, o.dni, ot.id, ot.name, o.email, o.firstName, o.lastName, o.dateOfBirth, og.id, og.name, " +
+        "o.country, o.city, o.phone, o.avatar, o.isVerified, o.createdAt) " +
+        "FROM Event e JOIN Sport s ON s.id = e.sportId.id JOIN e.organizerId o JOIN o.typeId ot JOIN o.genderId og ";
 
-    List<Event> findByOrganizerId(User organizerId);
+    /**
+     * Finds the events of an organizer
+     * 
+     * @param organizer the organizer
+     * 
+     * @return list of event views
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.organizerId = :organizer")
+    List<EventView> findViewsByOrganizerId(@Param("organizer") User organizer);
 
-    List<Event> findByStatus(EventStatus status);
+    /**
+     * Finds the events at a location
+     * 
+     * @param country the country
+     * @param city the city
+     * 
+     * @return list of event views
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.country = :country AND e.city = :city")
+    List<EventView> findViewsByCountryAndCity(@Param("country") String country, @Param("city") String city);
 
-    List<Event> findByCountryAndCity(String country, String city);
+    /**
+     * * The following methods implement keyset (seek) pagination over (start_date, id)
+     * 
+     * ? The first page is read with the "Page" methods, following pages with the
+     * ? "After"/"Before" ones using the last (startDate, id) returned as cursor,
+     * ? so every page costs the same no matter how deep the client goes.
+     * ? The pageable is only used to limit the number of rows (no offset)
+     */
 
-    List<Event> findByStartDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    /**
+     * Finds the first page of events
+     * 
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findAllPage(Pageable pageable);
 
     /**
-     * Finds upcoming events (end date is in the future)
+     * Finds the page of events following the given cursor
      * 
-     * @return list of upcoming events ordered by end date ascending
+     * @param startDate start date of the last event already returned
+     * @param id ID of the last event already returned
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
      */
-    @Query("SELECT e FROM Event e WHERE " + 
+    @Query(EVENT_VIEW_SELECT + "WHERE " +
+        "e.startDate > :startDate OR (e.startDate = :startDate AND e.id > :id) " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findAllAfter(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Finds the first page of events of a sport
+     * 
+     * ? Compared by the foreign key column (not the joined sport), so the
+     * ? WHERE and ORDER BY are served by idx_events_sport_start
+     * 
+     * @param sportId ID of the sport to filter by
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.sportId.id = :sportId " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findBySportIdPage(@Param("sportId") Long sportId, Pageable pageable);
+
+    /**
+     * Finds the page of events of a sport following the given cursor
+     * 
+     * @param sportId ID of the sport to filter by
+     * @param startDate start date of the last event already returned
+     * @param id ID of the last event already returned
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.sportId.id = :sportId AND " +
+        "(e.startDate > :startDate OR (e.startDate = :startDate AND e.id > :id)) " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findBySportIdAfter(
+        @Param("sportId") Long sportId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Finds the first page of events with a status
+     * 
+     * @param status the status to filter by
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.status = :status " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findByStatusPage(@Param("status") EventStatus status, Pageable pageable);
+
+    /**
+     * Finds the page of events with a status following the given cursor
+     * 
+     * @param status the status to filter by
+     * @param startDate start date of the last event already returned
+     * @param id ID of the last event already returned
+     * @param pageable page size limit
+     * 
+     * @return list of event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.status = :status AND " +
+        "(e.startDate > :startDate OR (e.startDate = :startDate AND e.id > :id)) " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findByStatusAfter(
+        @Param("status") EventStatus status,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Finds the first page of upcoming events
+     * 
+     * @param pageable page size limit
+     * 
+     * @return list of upcoming event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE " +
         "e.startDate > CURRENT_DATE " +
-        "ORDER BY e.startDate ASC")
-    List<Event> findUpcomingEvents();
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findUpcomingEventsPage(Pageable pageable);
+
+    /**
+     * Finds the page of upcoming events following the given cursor
+     * 
+     * @param startDate start date of the last event already returned
+     * @param id ID of the last event already returned
+     * @param pageable page size limit
+     * 
+     * @return list of upcoming event views ordered by start date and ID ascending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE " +
+        "e.startDate > CURRENT_DATE AND " +
+        "(e.startDate > :startDate OR (e.startDate = :startDate AND e.id > :id)) " +
+        "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventView> findUpcomingEventsAfter(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 
     /**
-     * Finds past events (end date is in the past)
+     * Finds the first page of past events
+     * 
+     * @param pageable page size limit
      * 
-     * @return list of past events ordered by end date descending
+     * @return list of past event views ordered by start date and ID descending
      */
-    @Query("SELECT e FROM Event e WHERE " +
+    @Query(EVENT_VIEW_SELECT + "WHERE " +
         "e.endDate < CURRENT_DATE " +
-        "ORDER BY e.endDate DESC")
-    List<Event> findPastEvents();
-
-    /**
-     * Searches events with flexible criteria
-     * 
-     * @param sport sport filter (optional)
-     * @param country country filer (optional, partial match)
-     * @param city city filter (optional, partial match)
-     * @param query search term for name or description (optional, partial match)
-     * 
-     * @return list of matching events
-     */
-    @Query("SELECT e FROM Event e WHERE " +
-        "(:sport IS NULL OR e.sportId.id = :sport) AND " +
-        "(:country IS NULL OR LOWER(e.country) LIKE LOWER(CONCAT('%', :country, '%'))) AND " +
-        "(:city IS NULL OR LOWER(e.city) LIKE LOWER(CONCAT('%', :city, '%'))) AND " +
-        "(:query IS NULL OR (LOWER(e.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(e.description) LIKE LOWER(CONCAT('%', :query, '%'))))")
-    List<Event> searchEvents(
-        @Param("sport") Sport sport,
-        @Param("country") String country,
-        @Param("city") String city,
-        @Param("query") String query
+        "ORDER BY e.startDate DESC, e.id DESC")
+    List<EventView> findPastEventsPage(Pageable pageable);
+
+    /**
+     * Finds the page of past events preceding the given cursor
+     * 
+     * @param startDate start date of the last event already returned
+     * @param id ID of the last event already returned
+     * @param pageable page size limit
+     * 
+     * @return list of past event views ordered by start date and ID descending
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE " +
+        "e.endDate < CURRENT_DATE AND " +
+        "(e.startDate < :startDate OR (e.startDate = :startDate AND e.id < :id)) " +
+        "ORDER BY e.startDate DESC, e.id DESC")
+    List<EventView> findPastEventsBefore(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("id") Long id,
+        Pageable pageable
     );
+
+    /**
+     * Finds every event, used to build the in-memory search index
+     * 
+     * @return list of all event views
+     */
+    @Query(EVENT_VIEW_SELECT)
+    List<EventView> findAllViews();
+
+    /**
+     * Finds the events with the given IDs
+     * 
+     * @param ids event IDs
+     * 
+     * @return list of the event views found (deleted events are missing)
+     */
+    @Query(EVENT_VIEW_SELECT + "WHERE e.id IN :ids")
+    List<EventView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,19 +1,33 @@
 package com.jgl.TappedOut.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jgl.TappedOut.dto.InscriptionExportRowDTO;
+import com.jgl.TappedOut.dto.ReminderRecipientDTO;
 import com.jgl.TappedOut.models.Category;
 import com.jgl.TappedOut.models.Event;
 import com.jgl.TappedOut.models.Inscription;
 import com.jgl.TappedOut.models.PaymentStatus;
 import com.jgl.TappedOut.models.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@link Inscription} entities
  * Provides methods to query registrations for events and categories
+ *
+ * ? Listings load their associations through the detail entity graph
+ * ? (one query with joins) instead of one select per competitor, event and category
  * 
  * @author Jorge García López
  * @version 1.0
@@ -21,22 +35,78 @@ import com.jgl.TappedOut.models.User;
  */
 @Repository
 public interface InscriptionRepository extends JpaRepository<Inscription, Long> {
+    @Override
+    @EntityGraph(Inscription.DETAIL_GRAPH)
+    List<Inscription> findAll();
+
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByCompetitorId(User competitorId);
 
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByEventId(Event eventId);
 
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByEventIdAndCategoryId(Event eventId, Category categoryId);
 
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByPaymentStatus(PaymentStatus status);
 
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByEventIdAndPaymentStatus(Event eventId, PaymentStatus status);
 
+    @EntityGraph(Inscription.DETAIL_GRAPH)
     List<Inscription> findByCompetitorIdAndEventId(User competitorId, Event eventId);
 
+    Long countByEventId(Event eventId);
+
     Long countByEventIdAndPaymentStatus(Event eventId, PaymentStatus status);
 
     boolean existsByCompetitorIdAndEventId(User competitorId, Event eventId);
 
     boolean existsByCompetitorIdAndEventIdAndCategoryId(User competitorId, Event eventId, Category categoryId);
 
+    /**
+     * Finds the email addresses of the competitors inscribed at an event
+     * 
+     * ? Reads only the email column, used by the bulk notifications
+     * 
+     * @param eventId the ID of the event
+     * @return List of distinct competitor emails
+     */
+    @Query("SELECT DISTINCT c.email FROM Inscription i JOIN i.competitorId c WHERE i.eventId.id = :eventId")
+    List<String> findCompetitorEmailsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Finds every (event, competitor) pair still waiting for a reminder
+     * 
+     * ? One query for the whole window, reminders already sent are skipped.
+     * ? DISTINCT because nothing in the schema stops a competitor having two inscriptions in an event
+     * 
+     * @param from start of the window (inclusive)
+     * @param to end of the window (exclusive)
+     * @return List of ReminderRecipientDTO ordered by event
+     */
+    @Query("SELECT DISTINCT new com.jgl.TappedOut.dto.ReminderRecipientDTO(e.id, e.name, e.startDate, c.id, c.email) " +
+        "FROM Inscription i JOIN i.eventId e JOIN i.competitorId c WHERE " +
+        "e.startDate >= :from AND e.startDate < :to AND " +
+        "e.status <> com.jgl.TappedOut.models.EventStatus.CANCELLED AND " +
+        "NOT EXISTS (SELECT r.id FROM EventReminder r WHERE r.eventId = e AND r.userId = c) " +
+        "ORDER BY e.id ASC")
+    List<ReminderRecipientDTO> findPendingReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Streams the export rows of an event ordered by inscription ID
+     *
+     * ? Rows are read in chunks of the fetch size (MySQL needs useCursorFetch=true)
+     * ! The Stream must be consumed inside a transaction and closed afterwards
+     *
+     * @param eventId the Event
+     * @return Stream of InscriptionExportRowDTO
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.jgl.TappedOut.dto.InscriptionExportRowDTO(" +
+        "i.id, c.id, c.dni, c.firstName, c.lastName, c.email, cat.id, cat.name, i.registerDate, i.paymentStatus) " +
+        "FROM Inscription i JOIN i.competitorId c JOIN i.categoryId cat " +
+        "WHERE i.eventId = :eventId ORDER BY i.id ASC")
+    Stream<InscriptionExportRowDTO> streamExportRowsByEventId(@Param("eventId") Event eventId);
 }
\ No newline at end of file
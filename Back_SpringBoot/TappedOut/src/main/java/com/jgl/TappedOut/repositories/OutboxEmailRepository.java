@@ -0,0 +1,85 @@
+package com.jgl.TappedOut.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jgl.TappedOut.models.OutboxEmail;
+import com.jgl.TappedOut.models.OutboxStatus;
+
+/**
+ * Repository interface for managing {@link OutboxEmail} entities
+ * 
+ * ? Every state change is a single conditional UPDATE, so several dispatchers
+ * ? (threads or nodes) can drain the outbox without sending an email twice
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+    /**
+     * Finds the IDs of the emails ready to be sent
+     * 
+     * ? SENDING rows whose claim expired (dispatcher died) are picked again
+     * 
+     * @param now current time
+     * @param pageable batch size limit
+     * 
+     * @return list of due email IDs, oldest first
+     */
+    @Query("SELECT o.id FROM OutboxEmail o WHERE " +
+        "o.status IN (com.jgl.TappedOut.models.OutboxStatus.PENDING, com.jgl.TappedOut.models.OutboxStatus.SENDING) " +
+        "AND o.nextAttemptAt <= :now ORDER BY o.id ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claims an email for delivery until the given time
+     * 
+     * @param id the email ID
+     * @param now current time
+     * @param claimedUntil time after which the claim expires
+     * 
+     * @return 1 if claimed, 0 if another dispatcher got it first
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail o SET o.status = com.jgl.TappedOut.models.OutboxStatus.SENDING, " +
+        "o.attempts = o.attempts + 1, o.nextAttemptAt = :claimedUntil WHERE o.id = :id " +
+        "AND o.status IN (com.jgl.TappedOut.models.OutboxStatus.PENDING, com.jgl.TappedOut.models.OutboxStatus.SENDING) " +
+        "AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Marks an email as sent
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail o SET o.status = com.jgl.TappedOut.models.OutboxStatus.SENT, " +
+        "o.sentAt = :sentAt, o.lastError = NULL WHERE o.id = :id")
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Marks a failed delivery, either to be retried (PENDING) or given up (DEAD)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+        "o.lastError = :error WHERE o.id = :id")
+    int markFailed(
+        @Param("id") Long id,
+        @Param("status") OutboxStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("error") String error
+    );
+
+    long countByStatus(OutboxStatus status);
+}
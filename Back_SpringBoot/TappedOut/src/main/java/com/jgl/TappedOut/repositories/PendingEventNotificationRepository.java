@@ -0,0 +1,60 @@
+package com.jgl.TappedOut.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jgl.TappedOut.models.PendingEventNotification;
+
+/**
+ * Repository interface for managing {@link PendingEventNotification} entities
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface PendingEventNotificationRepository extends JpaRepository<PendingEventNotification, Long> {
+    /**
+     * Schedules the notification of an event, or postpones the pending one
+     * 
+     * ? Single statement upsert, so concurrent saves of the same event never collide
+     * 
+     * @param eventId the ID of the event
+     * @param dueAt time the notification is sent if the event is not saved again
+     * @param maxDueAt latest time the notification can be postponed to
+     * 
+     * @return number of affected rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pending_event_notifications (event_id, due_at, max_due_at) " +
+        "VALUES (:eventId, :dueAt, :maxDueAt) " +
+        "ON DUPLICATE KEY UPDATE due_at = LEAST(:dueAt, max_due_at)", nativeQuery = true)
+    int schedule(@Param("eventId") Long eventId, @Param("dueAt") LocalDateTime dueAt, @Param("maxDueAt") LocalDateTime maxDueAt);
+
+    /**
+     * Finds the IDs of the events whose notification is due
+     * 
+     * @param now current time
+     * @return List of event IDs
+     */
+    @Query("SELECT p.eventId FROM PendingEventNotification p WHERE p.dueAt <= :now ORDER BY p.dueAt ASC")
+    List<Long> findDueEventIds(@Param("now") LocalDateTime now);
+
+    /**
+     * Takes a due notification
+     * 
+     * @param eventId the ID of the event
+     * @param now current time
+     * 
+     * @return 1 if taken, 0 if it was postponed or taken meanwhile
+     */
+    @Modifying
+    @Query("DELETE FROM PendingEventNotification p WHERE p.eventId = :eventId AND p.dueAt <= :now")
+    int takeDue(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+}
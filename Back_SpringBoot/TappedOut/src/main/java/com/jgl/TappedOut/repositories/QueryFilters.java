@@ -0,0 +1,111 @@
+package com.jgl.TappedOut.repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Optional filters of a search, turned into the WHERE clause of a JPQL query
+ *
+ * ? Only the filters with a value add a predicate, instead of the
+ * ? (:param IS NULL OR column = :param) pattern that MySQL cannot use an index for.
+ * ? Values are bound as named parameters, never as literals, so the query string only
+ * ? depends on which filters have a value (the shape) and Hibernate reuses its plan
+ * ! Parameter names must be unique within a query, paths are written by the caller and
+ * ! must never come from the client
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public final class QueryFilters {
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    /**
+     * Adds a filter, ignored if it has no value
+     *
+     * @param name name of the parameter
+     * @param value value of the filter (may be null)
+     * @return the same filters
+     */
+    public QueryFilters with(String name, Object value) {
+        if (value != null) values.put(name, value);
+        return this;
+    }
+
+    /**
+     * Names of the filters with a value, equal for every search building the same query
+     */
+    public String shape() {
+        return String.join(",", values.keySet());
+    }
+
+    /**
+     * Starts the WHERE clause of the query for the shape of these filters
+     *
+     * @return the predicates builder
+     */
+    public Where where() {
+        return new Where();
+    }
+
+    /**
+     * Binds the values of the filters to the query created from the JPQL string
+     *
+     * @param query the query
+     * @return the same query
+     */
+    public <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        values.forEach(query::setParameter);
+        return query;
+    }
+
+    /**
+     * Predicates of the filters with a value, the value itself is bound later by name
+     */
+    public final class Where {
+        private final List<String> predicates = new ArrayList<>();
+
+        private Where() {}
+
+        /**
+         * path = :name
+         */
+        public Where equal(String name, String path) {
+            if (!values.containsKey(name)) return this;
+
+            predicates.add(path + " = :" + name);
+            return this;
+        }
+
+        /**
+         * path <= :name, or the path has no bound (NULL)
+         */
+        public Where atMostOrUnbounded(String name, String path) {
+            if (!values.containsKey(name)) return this;
+
+            predicates.add("(" + path + " IS NULL OR " + path + " <= :" + name + ")");
+            return this;
+        }
+
+        /**
+         * path >= :name, or the path has no bound (NULL)
+         */
+        public Where atLeastOrUnbounded(String name, String path) {
+            if (!values.containsKey(name)) return this;
+
+            predicates.add("(" + path + " IS NULL OR " + path + " >= :" + name + ")");
+            return this;
+        }
+
+        /**
+         * WHERE clause with a trailing space, empty if no filter has a value
+         */
+        public String clause() {
+            return predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates) + " ";
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jgl.TappedOut.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -21,16 +22,26 @@ import com.jgl.TappedOut.models.User;
  */
 @Repository
 public interface ResultRepository extends JpaRepository<Result, Long> {
+    @Override
+    @EntityGraph(Result.DETAIL_GRAPH)
+    List<Result> findAll();
+
+    @EntityGraph(Result.DETAIL_GRAPH)
     List<Result> findByEventId(Event eventId);
 
+    @EntityGraph(Result.DETAIL_GRAPH)
     List<Result> findByEventIdAndCategoryId(Event eventId, Category categoryId);
 
+    @EntityGraph(Result.DETAIL_GRAPH)
     List<Result> findByEventIdAndCompetitorId(Event eventId, User competitorId);
 
+    @EntityGraph(Result.DETAIL_GRAPH)
     List<Result> findByCompetitorId(User competitorId);
 
+    @EntityGraph(Result.DETAIL_GRAPH)
     List<Result> findByEventIdAndPosition(Event eventId, int position);
 
+    @EntityGraph(Result.DETAIL_GRAPH)
     Optional<Result> findByEventIdAndCategoryIdAndPosition(Event eventId, Category categoryId, int position);
 
     boolean existsByEventIdAndCategoryIdAndPosition(Event eventId, Category categoryId, int position);
@@ -0,0 +1,57 @@
+package com.jgl.TappedOut.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jgl.TappedOut.models.SchedulerLock;
+
+/**
+ * Repository interface for managing {@link SchedulerLock} entities
+ * 
+ * ? Leases are taken and released with conditional UPDATEs, the database
+ * ? decides which node wins when several try at the same time
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    /**
+     * Takes the lease if it is free (expired or released)
+     * 
+     * @param name the job name
+     * @param owner the node taking the lease
+     * @param now current time
+     * @param until time the lease expires if never released
+     * 
+     * @return 1 if taken, 0 if another node holds it
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+        "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("until") LocalDateTime until
+    );
+
+    /**
+     * Releases the lease held by the node
+     * 
+     * @param name the job name
+     * @param owner the node holding the lease
+     * @param until time the lease becomes free
+     * 
+     * @return 1 if released, 0 if the lease was lost (expired and taken by another node)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
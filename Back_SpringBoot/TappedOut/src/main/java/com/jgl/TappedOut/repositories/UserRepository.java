@@ -1,5 +1,6 @@
 package com.jgl.TappedOut.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jgl.TappedOut.dto.UserSearchView;
+import com.jgl.TappedOut.dto.UserView;
 import com.jgl.TappedOut.models.Gender;
 import com.jgl.TappedOut.models.User;
 import com.jgl.TappedOut.models.UserType;
@@ -22,11 +25,28 @@ import com.jgl.TappedOut.models.UserType;
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    List<User> findByTypeId(UserType typeId);
+    /**
+     * Select clause shared by the read-only listings
+     * 
+     * ? Reads only the columns needed by the response straight into {@link UserView},
+     * ? so no entity is loaded into the persistence context
+     */
+    String USER_VIEW_SELECT = "SELECT new com.jgl.TappedOut.dto.UserView(" +
+        "u.id, u.dni, t.id, t.name, u.email, u.firstName, u.lastName, u.dateOfBirth, g.id, g.name, " +
+        "u.country, u.city, u.phone, u.avatar, u.isVerified, u.createdAt) " +
+        "FROM User u JOIN u.typeId t JOIN u.genderId g ";
+
+    @Query(USER_VIEW_SELECT)
+    List<UserView> findAllViews();
+
+    @Query(USER_VIEW_SELECT + "WHERE u.typeId = :type")
+    List<UserView> findViewsByTypeId(@Param("type") UserType type);
 
-    List<User> findByGenderId(Gender genderId);
+    @Query(USER_VIEW_SELECT + "WHERE u.genderId = :gender")
+    List<UserView> findViewsByGenderId(@Param("gender") Gender gender);
 
-    List<User> findByCountryAndCity(String country, String city);
+    @Query(USER_VIEW_SELECT + "WHERE u.country = :country AND u.city = :city")
+    List<UserView> findViewsByCountryAndCity(@Param("country") String country, @Param("city") String city);
     
     Optional<User> findByDni(String dni);
 
@@ -37,15 +57,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmailIgnoreCase(String email);
 
     /**
-     * Finds users by name or email
+     * Finds the users with the given IDs
      * 
-     * @param query the search term
+     * @param ids user IDs
+     * 
+     * @return list of the user views found (deleted users are missing)
+     */
+    @Query(USER_VIEW_SELECT + "WHERE u.id IN :ids")
+    List<UserView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the names and emails of every user, loaded by {@link com.jgl.TappedOut.service.UserSearchIndex}
      * 
-     * @return list of matching results
+     * @return list of the indexed columns of every user
      */
-    @Query("SELECT u FROM User u WHERE " +
-        "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(u.email) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<User> searchUsers(@Param("query") String query);
+    @Query("SELECT new com.jgl.TappedOut.dto.UserSearchView(u.id, u.firstName, u.lastName, u.email) FROM User u")
+    List<UserSearchView> findAllSearchViews();
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.jgl.TappedOut.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.Inscription;
+import com.jgl.TappedOut.models.Result;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.ResultRepository;
+import com.jgl.TappedOut.repositories.UserRepository;
+import com.jgl.TappedOut.service.CustomUserDetailsService.CustomUserPrincipal;
+
+/**
+ * Request scoped holder of everything the authorization checks need
+ * 
+ * ? The current user is resolved once per request, straight from the principal
+ * ? in the SecurityContext when possible, and every event, inscription and result
+ * ? loaded by a check is remembered so the rest of the SpEL checks reuse it
+ * ! Only available inside an HTTP request
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequestScope
+public class AuthorizationContext {
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private ResultRepository resultRepo;
+
+    private CurrentUser currentUser;
+
+    private boolean currentUserResolved;
+
+    private final Map<Long, Optional<Event>> events = new HashMap<>();
+
+    private final Map<Long, Optional<Inscription>> inscriptions = new HashMap<>();
+
+    private final Map<Long, Optional<Result>> results = new HashMap<>();
+
+    /**
+     * Identity of the authenticated user
+     * 
+     * @param id User ID
+     * @param role User type name (ADMIN, ORGANIZER, COMPETITOR)
+     */
+    public record CurrentUser(Long id, String role) {
+        public boolean hasRole(String expected) {
+            return expected.equals(role);
+        }
+    }
+
+    /**
+     * Retrieves the authenticated user of the request
+     * 
+     * @return CurrentUser or null if not authenticated
+     */
+    public CurrentUser getCurrentUser() {
+        if (!currentUserResolved) {
+            currentUser = resolveCurrentUser();
+            currentUserResolved = true;
+        }
+
+        return currentUser;
+    }
+
+    public Optional<Event> findEvent(Long eventId) {
+        if (eventId == null) return Optional.empty();
+        return events.computeIfAbsent(eventId, eventRepo::findById);
+    }
+
+    public Optional<Inscription> findInscription(Long inscriptionId) {
+        if (inscriptionId == null) return Optional.empty();
+        return inscriptions.computeIfAbsent(inscriptionId, inscriptionRepo::findById);
+    }
+
+    public Optional<Result> findResult(Long resultId) {
+        if (resultId == null) return Optional.empty();
+        return results.computeIfAbsent(resultId, resultRepo::findById);
+    }
+
+    private CurrentUser resolveCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || !auth.isAuthenticated() || auth.getName() == null)
+            return null;
+
+        if (auth.getPrincipal() instanceof CustomUserPrincipal principal)
+            return new CurrentUser(principal.getId(), normalizeRole(principal.getUserType()));
+
+        // ? Any other kind of principal: fall back to a single lookup by email
+        return userRepo.findByEmail(auth.getName())
+            .map(user -> new CurrentUser(user.getId(), normalizeRole(typeName(user))))
+            .orElse(null);
+    }
+
+    private String typeName(User user) {
+        return user.getTypeId() != null ? user.getTypeId().getName() : null;
+    }
+
+    private String normalizeRole(String role) {
+        return role != null ? role.trim().toUpperCase(Locale.ROOT) : null;
+    }
+}
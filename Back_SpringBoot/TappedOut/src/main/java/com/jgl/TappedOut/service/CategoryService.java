@@ -19,7 +19,7 @@ public interface CategoryService {
     List<CategoryResponseDTO> getCategoriesBySportId(Long sportId);
     List<CategoryResponseDTO> getCategoriesByGenderId(Long genderId);
     List<CategoryResponseDTO> getCategoriesByLevelId(Long levelId);
-    List<CategoryResponseDTO> searchCategories(Long sportId, Long genderId, Long levelId, Integer minAge, Integer maxAge, BigDecimal minWeight, BigDecimal maxWeight);
+    List<CategoryResponseDTO> searchCategories(Long sportId, Long genderId, Long levelId, Integer minAge, Integer maxAge, BigDecimal minWeight, BigDecimal maxWeight, String sort);
     CategoryResponseDTO getCategoryById(Long id);
     CategoryResponseDTO getCategoryBySportAndName(Long sportId, String name);
     CategoryResponseDTO createCategory(CategoryCreateDTO dto);
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jgl.TappedOut.dto.CategoryCreateDTO;
 import com.jgl.TappedOut.dto.CategoryResponseDTO;
+import com.jgl.TappedOut.dto.CategorySearchFilterDTO;
 import com.jgl.TappedOut.dto.CategoryUpdateDTO;
 import com.jgl.TappedOut.mapper.CategoryMapper;
 import com.jgl.TappedOut.models.Category;
@@ -18,6 +19,7 @@ import com.jgl.TappedOut.models.Gender;
 import com.jgl.TappedOut.models.Sport;
 import com.jgl.TappedOut.models.SportLevel;
 import com.jgl.TappedOut.repositories.CategoryRepository;
+import com.jgl.TappedOut.repositories.CategorySort;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -64,7 +66,7 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryResponseDTO> getAllCategories() {
         log.debug("Fetching all Category");
 
-        return categoryRepo.findAll().stream()
+        return categoryRepo.findAllViews().stream()
             .map(categoryMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
@@ -83,7 +85,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         Sport sport = sportServiceImpl.findSportByIdOrThrow(sportId);
 
-        return categoryRepo.findBySportId(sport)
+        return categoryRepo.findViewsBySportId(sport)
             .stream()
             .map(categoryMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -103,7 +105,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         Gender gender = genderServiceImpl.findGenderByIdOrThrow(genderId);
 
-        return categoryRepo.findByGenderId(gender)
+        return categoryRepo.findViewsByGenderId(gender)
             .stream()
             .map(categoryMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -123,7 +125,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         SportLevel sportLevel = sportLevelServiceImpl.findSportLevelByIdOrThrow(levelId);
 
-        return categoryRepo.findByLevelId(sportLevel)
+        return categoryRepo.findViewsByLevelId(sportLevel)
             .stream()
             .map(categoryMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -132,6 +134,8 @@ public class CategoryServiceImpl implements CategoryService {
     /**
      * Retrieves categories by filter
      * 
+     * ? Only the filters given are sent to the database (see QueryFilters)
+     * 
      * @param sportId Sport ID
      * @param genderId Gender ID
      * @param levelId Sport Level ID
@@ -139,25 +143,31 @@ public class CategoryServiceImpl implements CategoryService {
      * @param maxAge Maximum age
      * @param minWeight Minimum weight
      * @param maxWeight Maximum weight
+     * @param sort Field to sort by, optionally followed by ",asc" or ",desc" (by ID if null)
      * @return List of CategoryResponseDTO
      * @throws EntityNotFoundException if referenced sport, gender or level not found from their services
+     * @throws IllegalArgumentException if the sort field or direction is not valid
      */
     @Override
     @Transactional(readOnly = true)
-    public List<CategoryResponseDTO> searchCategories(Long sportId, Long genderId, Long levelId, Integer minAge, Integer maxAge, BigDecimal minWeight, BigDecimal maxWeight) {
+    public List<CategoryResponseDTO> searchCategories(Long sportId, Long genderId, Long levelId, Integer minAge, Integer maxAge, BigDecimal minWeight, BigDecimal maxWeight, String sort) {
         
-        log.debug("Searching Category\n\tSport: {},\n\tGender: {},\n\tLevel: {},\n\tMinAge: {}, MaxAge: {},\n\tMinWeight: {}, MaxWeight: {}",
-            sportId, genderId, levelId, minAge, maxAge, minWeight, maxWeight);
-
-        Sport sport = sportServiceImpl.findSportByIdOrThrow(sportId);
-        Gender gender = genderServiceImpl.findGenderByIdOrThrow(genderId);
-        SportLevel level = levelId != null ? sportLevelServiceImpl.findSportLevelByIdOrThrow(levelId) : null;
-
-        List<Category> categories = categoryRepo.findMatchingCategories(
-            sport, gender, level, minAge, maxAge, minWeight, maxWeight
-        );
+        log.debug("Searching Category\n\tSport: {},\n\tGender: {},\n\tLevel: {},\n\tMinAge: {}, MaxAge: {},\n\tMinWeight: {}, MaxWeight: {},\n\tSort: {}",
+            sportId, genderId, levelId, minAge, maxAge, minWeight, maxWeight, sort);
+
+        sportServiceImpl.findSportByIdOrThrow(sportId);
+        genderServiceImpl.findGenderByIdOrThrow(genderId);
+        if (levelId != null) sportLevelServiceImpl.findSportLevelByIdOrThrow(levelId);
+
+        CategorySearchFilterDTO filter = new CategorySearchFilterDTO(
+            sportId, genderId, levelId, minAge, maxAge, minWeight, maxWeight, null, false);
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",", 2);
+            filter.setSort(CategorySort.fromAttribute(parts[0]));
+            filter.setDescending(parts.length > 1 && isDescending(parts[1]));
+        }
 
-        return categories.stream()
+        return categoryRepo.searchViews(filter).stream()
             .map(categoryMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
@@ -285,6 +295,21 @@ public class CategoryServiceImpl implements CategoryService {
         }
     }
 
+    /**
+     * Method to read a sort direction
+     * 
+     * @param direction "asc" or "desc"
+     * @return true if descending
+     * @throws IllegalArgumentException if the direction is not valid
+     */
+    private boolean isDescending(String direction) {
+        return switch (direction.trim().toLowerCase()) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("Sort direction must be asc or desc");
+        };
+    }
+
     /**
      * Method to find a category by ID
      * 
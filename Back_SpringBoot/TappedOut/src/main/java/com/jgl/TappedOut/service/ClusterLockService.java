@@ -0,0 +1,119 @@
+package com.jgl.TappedOut.service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.models.SchedulerLock;
+import com.jgl.TappedOut.repositories.SchedulerLockRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class to take and release the {@link SchedulerLock} leases
+ * 
+ * ? Every operation runs in its own short transaction, so the lease is visible to
+ * ? the other nodes right away and no row lock is held while the job runs
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Slf4j
+public class ClusterLockService {
+    @Autowired
+    private SchedulerLockRepository lockRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate lockTx;
+
+    // * Identifies this node (host + random suffix, several instances can share a host)
+    private final String owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Lease held by this node
+     * 
+     * @param name the job name
+     * @param acquiredAt time the lease was taken
+     */
+    public record Lease(String name, LocalDateTime acquiredAt) {}
+
+    @PostConstruct
+    void init() {
+        lockTx = new TransactionTemplate(transactionManager);
+        lockTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Tries to take the lease of a job
+     * 
+     * @param name the job name
+     * @param lockAtMost max time the lease is held
+     * @return the lease, or empty if another node holds it
+     */
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMost) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMost);
+
+        Integer updated = lockTx.execute(status -> lockRepo.tryAcquire(name, owner, now, until));
+        if (updated != null && updated == 1)
+            return Optional.of(new Lease(name, now));
+
+        // ? First run of the job: create its row already taken
+        try {
+            Boolean created = lockTx.execute(status -> {
+                if (lockRepo.existsById(name)) return false;
+                lockRepo.saveAndFlush(new SchedulerLock(name, until, now, owner));
+                return true;
+            });
+            if (Boolean.TRUE.equals(created))
+                return Optional.of(new Lease(name, now));
+        } catch (DataIntegrityViolationException e) {
+            // ! Another node created it first
+            log.debug("Lease {} created by another node", name);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Releases a lease, keeping it at least the given time since it was taken
+     * 
+     * @param lease the lease held
+     * @param lockAtLeast min time the lease is held
+     */
+    public void release(Lease lease, Duration lockAtLeast) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minUntil = lease.acquiredAt().plus(lockAtLeast);
+        LocalDateTime until = minUntil.isAfter(now) ? minUntil : now;
+
+        Integer updated = lockTx.execute(status -> lockRepo.release(lease.name(), owner, until));
+        if (updated == null || updated == 0)
+            log.warn("Lease {} expired before the job ended, increase lockAtMostSeconds", lease.name());
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
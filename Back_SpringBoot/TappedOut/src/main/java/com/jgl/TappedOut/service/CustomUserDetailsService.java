@@ -20,6 +20,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Asumiendo que el username es el email
@@ -29,30 +32,67 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserPrincipal(user);
     }
 
+    /**
+     * Resolves the principal of a token issued before the ID/role claims existed
+     *
+     * ? Cached by {@link PrincipalCache} as the ID, email and role only, like the principals
+     * ? built from token claims. Login keeps using {@link #loadUserByUsername}, so the
+     * ? password is always checked against the database
+     *
+     * @param subject the token subject (email)
+     * @return the principal, without the User entity
+     * @throws UsernameNotFoundException if no user has that email
+     */
+    public CustomUserPrincipal loadTokenPrincipal(String subject) throws UsernameNotFoundException {
+        return principalCache.get(subject, email -> {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con email: " + subject));
+
+            return new CustomUserPrincipal(user.getId(), user.getEmail(),
+                    user.getTypeId() != null ? user.getTypeId().getName() : null);
+        });
+    }
+
     public static class CustomUserPrincipal implements UserDetails {
-        private User user;
+        private final User user;
+        private final Long id;
+        private final String email;
+        private final String userType;
 
         public CustomUserPrincipal(User user) {
             this.user = user;
+            this.id = user.getId();
+            this.email = user.getEmail();
+            this.userType = user.getTypeId() != null ? user.getTypeId().getName() : null;
+        }
+
+        /**
+         * Principal built only from verified token claims (no User entity loaded)
+         */
+        public CustomUserPrincipal(Long id, String email, String userType) {
+            this.user = null;
+            this.id = id;
+            this.email = email;
+            this.userType = userType;
         }
 
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
-            if (user == null || user.getTypeId() == null || user.getTypeId().getName() == null)
+            if (userType == null)
                 return Collections.emptyList();
 
-            String roleName = "ROLE_" + user.getTypeId().getName().trim().toUpperCase();
+            String roleName = "ROLE_" + userType.trim().toUpperCase();
             return Collections.singletonList(new SimpleGrantedAuthority(roleName));
         }
 
         @Override
         public String getPassword() {
-            return user.getPasswordHash();
+            return user != null ? user.getPasswordHash() : null;
         }
 
         @Override
         public String getUsername() {
-            return user.getEmail();
+            return email;
         }
 
         @Override
@@ -75,16 +115,19 @@ public class CustomUserDetailsService implements UserDetailsService {
             return true;
         }
 
+        /**
+         * ! Null when the principal was built from token claims
+         */
         public User getUser() {
             return user;
         }
 
         public Long getId() {
-            return user.getId();
+            return id;
         }
 
         public String getUserType() {
-            return user.getTypeId().getName();
+            return userType;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.jgl.TappedOut.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.jgl.TappedOut.models.OutboxEmail;
+import com.jgl.TappedOut.models.OutboxStatus;
+import com.jgl.TappedOut.repositories.OutboxEmailRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background dispatcher that drains the {@link OutboxEmail} table
+ * 
+ * ? Each poll claims a batch of due emails and sends them on the bounded mail pool,
+ * ? reusing pooled SMTP connections ({@link PooledMailSender}).
+ * ? Failed deliveries are retried with exponential backoff and moved to DEAD
+ * ? after the max number of attempts. Sends can be rate limited per node
+ * ! The poll never waits for the SMTP server: the scheduler thread is shared with
+ * ! the other jobs (spring.task.scheduling.pool.size)
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+    @Autowired
+    private OutboxEmailRepository outboxRepo;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Value("${app.mail.outbox.workers:4}")
+    private int workers;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    // ! Must be longer than the SMTP timeouts, or a slow send could be claimed twice
+    @Value("${app.mail.outbox.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    // ? Max SMTP messages per second sent by this node (0 = unlimited)
+    @Value("${app.mail.rate-limit.per-second:0}")
+    private double ratePerSecond;
+
+    private ThreadPoolTaskExecutor mailExecutor;
+
+    private TokenBucket rateLimiter;
+
+    // ? Batch being sent by the workers, polls are skipped until it is done
+    private volatile CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+
+    /**
+     * Bounded pool that delivers the emails
+     * 
+     * ? A batch has at most one share per worker and the next one is not claimed
+     * ? until it is done, so the queue never fills and no task is run by the caller
+     */
+    @PostConstruct
+    void init() {
+        mailExecutor = new ThreadPoolTaskExecutor();
+        mailExecutor.setCorePoolSize(workers);
+        mailExecutor.setMaxPoolSize(workers);
+        mailExecutor.setQueueCapacity(workers);
+        mailExecutor.setThreadNamePrefix("mail-outbox-");
+        mailExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        mailExecutor.setAwaitTerminationSeconds(30);
+        mailExecutor.initialize();
+
+        if (ratePerSecond > 0)
+            rateLimiter = new TokenBucket(ratePerSecond, Math.max(1, ratePerSecond));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        mailExecutor.shutdown();
+    }
+
+    /**
+     * Claims the due emails and hands them to the workers, without waiting for them
+     * 
+     * ? The claimed emails are split between the workers, and every worker sends
+     * ? its share through one pooled SMTP connection. While a batch is being sent
+     * ? the poll does nothing, so claims never pile up behind a slow server
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-ms:2000}")
+    public void dispatch() {
+        if (!inFlight.isDone()) return;
+
+        List<Long> due = outboxRepo.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) return;
+
+        List<Long> claimed = new ArrayList<>(due.size());
+        for (Long id : due) {
+            LocalDateTime now = LocalDateTime.now();
+
+            if (outboxRepo.claim(id, now, now.plusSeconds(claimTimeoutSeconds)) == 1)
+                claimed.add(id);
+        }
+        if (claimed.isEmpty()) return;
+
+        List<OutboxEmail> emails = outboxRepo.findAllById(claimed);
+        log.debug("Dispatching {} outbox emails", emails.size());
+
+        int chunks = Math.min(workers, emails.size());
+        List<List<OutboxEmail>> shares = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) shares.add(new ArrayList<>());
+        for (int i = 0; i < emails.size(); i++) shares.get(i % chunks).add(emails.get(i));
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(chunks);
+        for (List<OutboxEmail> share : shares)
+            deliveries.add(CompletableFuture.runAsync(() -> deliver(share), mailExecutor));
+
+        inFlight = CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new))
+            .whenComplete((done, e) -> {
+                // ! The claims of the emails not recorded expire and they are sent again
+                if (e != null) log.error("Error delivering outbox emails - {}", e.getMessage(), e);
+            });
+    }
+
+    /**
+     * Sends claimed emails in one batch and records the outcome of each one
+     * 
+     * @param emails claimed OutboxEmails
+     */
+    void deliver(List<OutboxEmail> emails) {
+        List<OutboxEmail> built = new ArrayList<>(emails.size());
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+
+        for (OutboxEmail email : emails) {
+            try {
+                if (rateLimiter != null) rateLimiter.acquire();
+
+                String[] bcc = email.getBcc() != null ? email.getBcc().split(",") : new String[0];
+                messages.add(emailService.createMessage(email.getRecipient(), email.getSubject(), email.getBody(), bcc));
+                built.add(email);
+            } catch (InterruptedException e) {
+                // ! Shutting down: the claims expire and the emails are sent again later
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                markFailed(email, e);
+            }
+        }
+
+        Map<Integer, Exception> failures = emailService.sendBatch(messages);
+
+        for (int i = 0; i < built.size(); i++) {
+            Exception failure = failures.get(i);
+            if (failure == null)
+                outboxRepo.markSent(built.get(i).getId(), LocalDateTime.now());
+            else
+                markFailed(built.get(i), failure);
+        }
+    }
+
+    /**
+     * Schedules a retry of a failed email, or moves it to DEAD
+     */
+    private void markFailed(OutboxEmail email, Exception e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        if (error.length() > 1000) error = error.substring(0, 1000);
+
+        Long id = email.getId();
+        if (email.getAttempts() >= maxAttempts) {
+            log.error("Outbox email with ID: {} moved to DEAD after {} attempts - {}", id, email.getAttempts(), error);
+            outboxRepo.markFailed(id, OutboxStatus.DEAD, email.getNextAttemptAt(), error);
+        } else {
+            LocalDateTime retryAt = LocalDateTime.now().plus(backoff(email.getAttempts()));
+            log.warn("Outbox email with ID: {} failed (attempt {}), retrying at {} - {}", id, email.getAttempts(), retryAt, error);
+            outboxRepo.markFailed(id, OutboxStatus.PENDING, retryAt, error);
+        }
+    }
+
+    /**
+     * Exponential backoff: base, 2x base, 4x base... capped at 1 hour
+     */
+    private Duration backoff(int attempts) {
+        long seconds = retryBackoffSeconds << Math.min(Math.max(attempts - 1, 0), 16);
+        return Duration.ofSeconds(Math.min(seconds, 3600));
+    }
+}
@@ -1,14 +1,23 @@
 package com.jgl.TappedOut.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import com.jgl.TappedOut.models.OutboxEmail;
+import com.jgl.TappedOut.repositories.OutboxEmailRepository;
+
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -22,35 +31,100 @@ public class EmailService {
     @Autowired
     private TemplateEngine templateEngine;
 
+    @Autowired
+    private OutboxEmailRepository outboxRepo;
+
+    @Autowired
+    private PooledMailSender pooledSender;
+
     @Value("${spring.mail.username}")
     private String from;
 
-    public void sendEmail(String to, String subject, String htmlContent) {
+    // ? Max blind copies per bulk message (SMTP servers limit recipients per message)
+    @Value("${app.mail.bulk.batch-size:50}")
+    private int bulkBatchSize;
+
+    /**
+     * Queues an email in the outbox, joining the current transaction
+     * 
+     * ? It is only sent (by {@link EmailOutboxDispatcher}) once the transaction commits,
+     * ? so the SMTP latency or failures never affect the business operation
+     */
+    @Transactional
+    public void queueEmail(String to, String subject, String htmlContent) {
         if (to == null || to.isBlank()) {
             log.error("Intento de enviar email sin destinatario");
             throw new IllegalArgumentException("El destinatario no puede estar vacío");
         }
 
-        try {
-            MimeMessage msg = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(msg, true, "UTF-8");
-            
-            helper.setFrom(from);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            
-            mailSender.send(msg);
-            log.info("Email enviado correctamente a {}", to);
-        } catch (MailException e) {
-            log.error("Error de MailException\nError msg: {}", e.getMessage());
-            throw new RuntimeException("Failed to send email", e);
-        } catch (MessagingException e) {
-            log.error("Error de MessagingException\nError msg: {}", e.getMessage());
-        } catch (Exception e) {
-            log.error("Unexpected error sending email\nError msg: " + e.getMessage());
-            throw new RuntimeException("Failed to send email", e);
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setBody(htmlContent);
+        email.setNextAttemptAt(LocalDateTime.now());
+
+        outboxRepo.save(email);
+        log.debug("Email queued for {}", to);
+    }
+
+    /**
+     * Queues the same email for many recipients, joining the current transaction
+     * 
+     * ? Recipients are grouped in batches sent as blind copies, so a fan-out of
+     * ? thousands of competitors is a few outbox rows and SMTP messages
+     */
+    @Transactional
+    public void queueBulkEmail(Collection<String> recipients, String subject, String htmlContent) {
+        List<String> normalized = recipients.stream()
+            .filter(to -> to != null && !to.isBlank())
+            .map(to -> to.trim().toLowerCase())
+            .distinct()
+            .toList();
+
+        List<OutboxEmail> emails = new ArrayList<>();
+        for (int i = 0; i < normalized.size(); i += bulkBatchSize) {
+            OutboxEmail email = new OutboxEmail();
+            email.setRecipient(from);
+            email.setBcc(String.join(",", normalized.subList(i, Math.min(i + bulkBatchSize, normalized.size()))));
+            email.setSubject(subject);
+            email.setBody(htmlContent);
+            email.setNextAttemptAt(LocalDateTime.now());
+            emails.add(email);
         }
+
+        outboxRepo.saveAll(emails);
+        log.debug("Bulk email queued for {} recipients in {} batches", normalized.size(), emails.size());
+    }
+
+    /**
+     * Sends many emails reusing a pooled SMTP connection
+     * ! Used by the outbox dispatcher, business code must use queueEmail
+     * 
+     * @param messages messages built with createMessage
+     * @return the failures by message index (empty if everything was sent)
+     */
+    public Map<Integer, Exception> sendBatch(List<MimeMessage> messages) {
+        Map<Integer, Exception> failures = pooledSender.send(messages);
+        log.info("Batch of {} emails sent ({} failed)", messages.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * Builds an HTML email with optional blind copies
+     * 
+     * @throws MessagingException if any address or content is not valid
+     */
+    public MimeMessage createMessage(String to, String subject, String htmlContent, String[] bcc) throws MessagingException {
+        MimeMessage msg = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(msg, true, "UTF-8");
+
+        helper.setFrom(from);
+        helper.setTo(to);
+        if (bcc.length > 0) helper.setBcc(bcc);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+
+        return msg;
     }
 
     public void sendWelcomeEmail(String to, String username) {
@@ -61,7 +135,7 @@ public class EmailService {
 
         String htmlContent = templateEngine.process("emails/welcome", context);
 
-        sendEmail(to, subject, htmlContent);
+        queueEmail(to, subject, htmlContent);
     }
 
     public void sendEventInscriptionEmail(String to, String eventName, String eventDate) {
@@ -73,7 +147,7 @@ public class EmailService {
 
         String htmlContent = templateEngine.process("emails/event-inscription", context);
 
-        sendEmail(to, subject, htmlContent);
+        queueEmail(to, subject, htmlContent);
     }
 
     public void sendEventCreationEmail(String to, String eventName, String eventDate) {
@@ -85,30 +159,42 @@ public class EmailService {
 
         String htmlContent = templateEngine.process("emails/event-creation", context);
 
-        sendEmail(to, subject, htmlContent);
+        queueEmail(to, subject, htmlContent);
     }
 
-    public void sendEventUpdateNotification(String to, String eventName, String eventDate) {
+    /**
+     * Notifies every competitor of an event update
+     * ? The template is rendered once and shared by all the recipients
+     */
+    public void sendEventUpdateNotifications(Collection<String> recipients, String eventName, String eventDate) {
+        if (recipients.isEmpty()) return;
+
         String subject = "¡Un evento en TappedOut ha sido actualizado!";
-        
+
         Context context = new Context();
         context.setVariable("eventName", eventName);
         context.setVariable("eventDate", eventDate);
-        
+
         String htmlContent = templateEngine.process("emails/event-update", context);
-        
-        sendEmail(to, subject, htmlContent);
+
+        queueBulkEmail(recipients, subject, htmlContent);
     }
 
-    public void sendRememberNotification(String to, String eventName, String date) {
+    /**
+     * Reminds every competitor of an event that it is about to start
+     * ? The template is rendered once and shared by all the recipients
+     */
+    public void sendRememberNotifications(Collection<String> recipients, String eventName, String date) {
+        if (recipients.isEmpty()) return;
+
         String subject = "Remember: " + eventName + " is about to start!";
-        
+
         Context context = new Context();
         context.setVariable("eventName", eventName);
         context.setVariable("eventDate", date);
-        
+
         String htmlContent = templateEngine.process("emails/event-reminder", context);
-        
-        sendEmail(to, subject, htmlContent);
+
+        queueBulkEmail(recipients, subject, htmlContent);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,301 @@
+package com.jgl.TappedOut.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.jgl.TappedOut.dto.EventView;
+
+/**
+ * Bitmap index of the events by facet value (sport, status, country, city),
+ * start day and registration fee
+ *
+ * ? Every event has an ordinal, each value keeps the compressed bitmap of the
+ * ? ordinals having it. A filter is answered by OR-ing the bitmaps of the accepted
+ * ? values and AND-ing the result of every clause, facet counts are the cardinality
+ * ? of each value bitmap intersected with the filtered events
+ * ! Not thread safe, {@link EventSearchIndex} guards it with its lock
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public final class EventCatalog {
+    /**
+     * Fields with a discrete set of values
+     */
+    public enum Facet { SPORT, STATUS, COUNTRY, CITY }
+
+    /**
+     * A filter over the catalog, combined with {@link All} and {@link Any}
+     */
+    public sealed interface Criterion permits All, Any, FacetIn, StartBetween, FeeBetween {}
+
+    /**
+     * Events matching every criterion (all events if empty)
+     */
+    public record All(List<Criterion> criteria) implements Criterion {}
+
+    /**
+     * Events matching at least one criterion (no events if empty)
+     */
+    public record Any(List<Criterion> criteria) implements Criterion {}
+
+    /**
+     * Events whose facet has one of the values
+     *
+     * ? Sports by ID, statuses by name and locations ignoring case and accents.
+     * ? With partial, a location matches any value containing it ("valen" -> "Valencia")
+     */
+    public record FacetIn(Facet facet, Collection<String> values, boolean partial) implements Criterion {}
+
+    /**
+     * Events starting between two days, both inclusive (open ended if null)
+     */
+    public record StartBetween(LocalDate from, LocalDate to) implements Criterion {}
+
+    /**
+     * Events whose registration fee is between two amounts, both inclusive (open ended if null)
+     */
+    public record FeeBetween(BigDecimal min, BigDecimal max) implements Criterion {}
+
+    /**
+     * Number of filtered events having a facet value
+     */
+    public record FacetCount(String key, String label, long count) {}
+
+    /**
+     * Bitmap of the events having a value, and the value as first indexed
+     */
+    private record Value(String label, RoaringBitmap events) {}
+
+    private final RoaringBitmap all = new RoaringBitmap();
+
+    private final Map<Facet, Map<String, Value>> facets = new EnumMap<>(Facet.class);
+
+    private final TreeMap<LocalDate, RoaringBitmap> byStartDay = new TreeMap<>();
+
+    private final TreeMap<BigDecimal, RoaringBitmap> byFee = new TreeMap<>();
+
+    public EventCatalog() {
+        for (Facet facet : Facet.values()) facets.put(facet, new HashMap<>());
+    }
+
+    /**
+     * Adds an event to every bitmap of its values
+     *
+     * @param ordinal ordinal of the event
+     * @param view the event
+     */
+    public void add(int ordinal, EventView view) {
+        all.add(ordinal);
+        for (Facet facet : Facet.values()) {
+            String key = keyOf(facet, view);
+            if (key == null) continue;
+
+            facets.get(facet).computeIfAbsent(key, k -> new Value(label(facet, view), new RoaringBitmap())).events().add(ordinal);
+        }
+        if (view.startDate() != null)
+            byStartDay.computeIfAbsent(view.startDate().toLocalDate(), d -> new RoaringBitmap()).add(ordinal);
+        byFee.computeIfAbsent(fee(view), f -> new RoaringBitmap()).add(ordinal);
+    }
+
+    /**
+     * Removes an event from the bitmaps of its values
+     *
+     * @param ordinal ordinal of the event
+     * @param view the event as it was added
+     */
+    public void remove(int ordinal, EventView view) {
+        all.remove(ordinal);
+        for (Facet facet : Facet.values()) {
+            String key = keyOf(facet, view);
+            if (key == null) continue;
+
+            Map<String, Value> values = facets.get(facet);
+            Value value = values.get(key);
+            if (value == null) continue;
+
+            value.events().remove(ordinal);
+            if (value.events().isEmpty()) values.remove(key);
+        }
+        if (view.startDate() != null) removeFrom(byStartDay, view.startDate().toLocalDate(), ordinal);
+        removeFrom(byFee, fee(view), ordinal);
+    }
+
+    /**
+     * Finds the events matching a criterion
+     *
+     * @param criterion the filter (null for every event)
+     * @return a new bitmap with the ordinals of the matching events
+     */
+    public RoaringBitmap matching(Criterion criterion) {
+        if (criterion == null) return all.clone();
+
+        if (criterion instanceof All allOf) {
+            RoaringBitmap result = all.clone();
+            for (Criterion each : allOf.criteria()) {
+                result.and(matching(each));
+                if (result.isEmpty()) break;
+            }
+            return result;
+        }
+
+        if (criterion instanceof Any anyOf) {
+            List<RoaringBitmap> matches = new ArrayList<>();
+            anyOf.criteria().forEach(each -> matches.add(matching(each)));
+            return or(matches);
+        }
+
+        if (criterion instanceof FacetIn in) {
+            Map<String, Value> values = facets.get(in.facet());
+            List<RoaringBitmap> matches = new ArrayList<>();
+            for (String requested : in.values()) {
+                String key = key(in.facet(), requested);
+                if (in.partial()) {
+                    values.forEach((k, value) -> {
+                        if (k.contains(key)) matches.add(value.events());
+                    });
+                } else if (values.containsKey(key)) {
+                    matches.add(values.get(key).events());
+                }
+            }
+            return or(matches);
+        }
+
+        if (criterion instanceof StartBetween between)
+            return or(range(byStartDay, between.from(), between.to()).values());
+
+        FeeBetween between = (FeeBetween) criterion;
+        return or(range(byFee, between.min(), between.max()).values());
+    }
+
+    /**
+     * Counts the events of every value of a facet among the given ones
+     *
+     * @param facet the facet
+     * @param within ordinals of the events to count
+     * @return values with at least one event, most frequent first
+     */
+    public List<FacetCount> count(Facet facet, RoaringBitmap within) {
+        List<FacetCount> counts = new ArrayList<>();
+        facets.get(facet).forEach((key, value) -> {
+            long count = RoaringBitmap.andCardinality(value.events(), within);
+            if (count > 0) counts.add(new FacetCount(key, value.label(), count));
+        });
+        counts.sort(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::label));
+        return counts;
+    }
+
+    /**
+     * Counts every facet for a filter
+     *
+     * ? A facet is counted without the clauses on that same facet, so the UI can show
+     * ? how many events each other value would add (selected sports don't hide the rest)
+     *
+     * @param criterion the filter (null for every event)
+     * @param within ordinals the counts are restricted to besides the filter (null for none)
+     * @return counts of every facet
+     */
+    public Map<Facet, List<FacetCount>> countAll(Criterion criterion, RoaringBitmap within) {
+        Map<Facet, List<FacetCount>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            RoaringBitmap events = matching(without(criterion, facet));
+            if (within != null) events.and(within);
+            counts.put(facet, count(facet, events));
+        }
+        return counts;
+    }
+
+    public int size() {
+        return all.getCardinality();
+    }
+
+    /**
+     * Removes the top level clauses on a facet from a criterion
+     */
+    private static Criterion without(Criterion criterion, Facet facet) {
+        if (criterion instanceof FacetIn in && in.facet() == facet) return null;
+
+        if (criterion instanceof All allOf) {
+            return new All(allOf.criteria().stream()
+                .filter(each -> !(each instanceof FacetIn in && in.facet() == facet))
+                .toList());
+        }
+
+        return criterion;
+    }
+
+    private static RoaringBitmap or(Collection<RoaringBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) return new RoaringBitmap();
+        if (bitmaps.size() == 1) return bitmaps.iterator().next().clone();
+
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    private static <K extends Comparable<? super K>> NavigableMap<K, RoaringBitmap> range(
+            TreeMap<K, RoaringBitmap> index, K from, K to) {
+        if (from != null && to != null) {
+            if (from.compareTo(to) > 0) return new TreeMap<>();
+            return index.subMap(from, true, to, true);
+        }
+        if (from != null) return index.tailMap(from, true);
+        if (to != null) return index.headMap(to, true);
+        return index;
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> index, K key, int ordinal) {
+        RoaringBitmap events = index.get(key);
+        if (events == null) return;
+
+        events.remove(ordinal);
+        if (events.isEmpty()) index.remove(key);
+    }
+
+    /**
+     * Key of the value of an event, null if it has none
+     */
+    private static String keyOf(Facet facet, EventView view) {
+        return switch (facet) {
+            case SPORT -> view.sport() != null ? String.valueOf(view.sport().getId()) : null;
+            case STATUS -> view.status() != null ? view.status().name() : null;
+            case COUNTRY -> view.country() != null ? key(facet, view.country()) : null;
+            case CITY -> view.city() != null ? key(facet, view.city()) : null;
+        };
+    }
+
+    private static String label(Facet facet, EventView view) {
+        return switch (facet) {
+            case SPORT -> view.sport().getName();
+            case STATUS -> view.status().name();
+            case COUNTRY -> view.country().trim();
+            case CITY -> view.city().trim();
+        };
+    }
+
+    /**
+     * Normalizes a requested value the way the keys are built
+     */
+    private static String key(Facet facet, String value) {
+        return switch (facet) {
+            case SPORT -> value.trim();
+            case STATUS -> value.trim().toUpperCase();
+            case COUNTRY, CITY -> SearchText.fold(value.trim());
+        };
+    }
+
+    private static BigDecimal fee(EventView view) {
+        return view.registrationFee() != null ? view.registrationFee() : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jgl.TappedOut.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque continuation token used to paginate events by (start_date, id)
+ *
+ * ? The token is the Base64 (URL safe) encoding of "startDate|id" of the
+ * ? last event returned, so the next page starts right after it
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Getter
+@AllArgsConstructor
+public class EventCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startDate;
+
+    private final Long id;
+
+    /**
+     * Encodes the position of an event as a cursor
+     *
+     * @param startDate Event start date
+     * @param id Event ID
+     * @return the opaque cursor
+     */
+    public static String encode(LocalDateTime startDate, Long id) {
+        String raw = startDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from the client
+     *
+     * @param cursor the opaque cursor (may be null or blank for the first page)
+     * @return the decoded cursor or null if there is no cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+
+            return new EventCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+}
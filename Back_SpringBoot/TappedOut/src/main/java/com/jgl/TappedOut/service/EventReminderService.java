@@ -0,0 +1,171 @@
+package com.jgl.TappedOut.service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.conf.ClusterLock;
+import com.jgl.TappedOut.dto.ReminderRecipientDTO;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.EventReminder;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.repositories.EventReminderRepository;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class to remind competitors of their upcoming events
+ * 
+ * ? Every (event, competitor) pair of the window is read in one query.
+ * ? Each event is then handled in its own transaction, which records the reminders
+ * ? in event_reminders and queues one rendered email for all its competitors in the
+ * ? outbox (sent by {@link EmailOutboxDispatcher} with its pool and rate limit)
+ * ? Only one node runs it per tick ({@link ClusterLock})
+ * ! The unique (event, user) pair makes a concurrent run on another node fail
+ * ! and roll back instead of sending the reminder twice
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Slf4j
+public class EventReminderService {
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private EventReminderRepository reminderRepo;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // ? Events starting within this many days get their reminder
+    @Value("${app.reminders.days-before:3}")
+    private long daysBefore;
+
+    private TransactionTemplate perEventTx;
+
+    @PostConstruct
+    void init() {
+        perEventTx = new TransactionTemplate(transactionManager);
+        perEventTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Scheduled method to send a reminder when a event is about to start
+     * 
+     * ? Runs every hour by default: as sent reminders are recorded, a run missed
+     * ? while the application was down is caught up by the next one
+     */
+    @Scheduled(cron = "${app.reminders.cron:0 0 * * * *}")
+    @ClusterLock(name = "event-reminders", lockAtMostSeconds = 1800, lockAtLeastSeconds = 60)
+    public void sendReminders() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ReminderRecipientDTO> pending = inscriptionRepo.findPendingReminders(now, now.plusDays(daysBefore));
+        if (pending.isEmpty()) return;
+
+        Map<Long, List<ReminderRecipientDTO>> byEvent = pending.stream()
+            .collect(Collectors.groupingBy(ReminderRecipientDTO::getEventId, LinkedHashMap::new, Collectors.toList()));
+
+        log.info("Sending reminders for {} events to {} competitors", byEvent.size(), pending.size());
+
+        byEvent.forEach((eventId, recipients) -> {
+            try {
+                perEventTx.executeWithoutResult(status -> remindEvent(eventId, recipients));
+            } catch (DataIntegrityViolationException e) {
+                if (isReminderAlreadySent(e)) log.info("Reminders of Event with ID: {} already sent by another run", eventId);
+                else log.error("Error sending reminders of Event with ID: {} - {}", eventId, e.getMessage(), e);
+            } catch (Exception e) {
+                log.error("Error sending reminders of Event with ID: {} - {}", eventId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Records and queues the reminders of one event
+     * 
+     * @param eventId Event ID
+     * @param recipients competitors to remind
+     */
+    private void remindEvent(Long eventId, List<ReminderRecipientDTO> recipients) {
+        Event event = eventRepo.getReferenceById(eventId);
+
+        // * One reminder per competitor, whatever the number of inscriptions
+        List<ReminderRecipientDTO> competitors = recipients.stream()
+            .filter(distinctBy(ReminderRecipientDTO::getCompetitorId))
+            .toList();
+
+        List<EventReminder> reminders = competitors.stream()
+            .map(r -> {
+                User competitor = userRepo.getReferenceById(r.getCompetitorId());
+                EventReminder reminder = new EventReminder();
+                reminder.setEventId(event);
+                reminder.setUserId(competitor);
+                return reminder;
+            })
+            .toList();
+
+        // * Flushing first makes a duplicate fail before anything is queued
+        reminderRepo.saveAllAndFlush(reminders);
+
+        ReminderRecipientDTO first = recipients.get(0);
+        emailService.sendRememberNotifications(
+            competitors.stream().map(ReminderRecipientDTO::getEmail).toList(),
+            first.getEventName().trim().toUpperCase(),
+            first.getEventStartDate().toString());
+
+        log.debug("Queued reminders\n\tEvent ID: {}\n\tCompetitors: {}", eventId, competitors.size());
+    }
+
+    /**
+     * Method to tell a concurrent run apart from any other integrity violation
+     * 
+     * @param e the exception thrown by the flush
+     * @return true if the unique (event, user) key of event_reminders was violated
+     */
+    private static boolean isReminderAlreadySent(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(EventReminder.UNIQUE_EVENT_USER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> Predicate<T> distinctBy(Function<T, Object> key) {
+        Set<Object> seen = new HashSet<>();
+        return value -> seen.add(key.apply(value));
+    }
+}
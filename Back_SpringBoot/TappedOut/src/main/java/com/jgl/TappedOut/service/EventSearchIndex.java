@@ -0,0 +1,573 @@
+package com.jgl.TappedOut.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.dto.EventView;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.service.EventCatalog.Criterion;
+import com.jgl.TappedOut.service.EventCatalog.Facet;
+import com.jgl.TappedOut.service.EventCatalog.FacetCount;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index used to search events by text
+ *
+ * ? Name, description, city and country are split into folded terms ({@link SearchText}),
+ * ? every term points to the events containing it with a weight per field.
+ * ? Every word of the query must match a term exactly or as a prefix ("camp" finds
+ * ? "campeonato"), events are ranked by the sum of the weights times the rarity of the term.
+ * ? Filters are answered by the bitmaps of an {@link EventCatalog} sharing the same ordinals
+ * * The index is built when the application is ready, updated after every committed event
+ * * write and rebuilt on schedule, so changes made by another instance are picked up
+ * ? Rows are always read from the database without holding the lock, which is only taken
+ * ? to swap them in: searches never wait for a query
+ * ! Holds the read-only view of every event, plan the heap for the events table size
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class EventSearchIndex {
+    private static final float NAME_WEIGHT = 3f;
+
+    private static final float LOCATION_WEIGHT = 2f;
+
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // * A prefix match counts half of an exact one
+    private static final double PREFIX_FACTOR = 0.5;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate loadTx;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Object rebuildLock = new Object();
+
+    // ? Fields below are guarded by lock
+    private Index index = new Index();
+
+    private volatile boolean built;
+
+    private boolean rebuilding;
+
+    // * Events written while a rebuild was loading, applied again once it finishes
+    private final Set<Long> pendingIds = new HashSet<>();
+
+    // * Taken before every load, a view is only replaced by one loaded later
+    private final AtomicLong loads = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        loadTx = new TransactionTemplate(transactionManager);
+        loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTx.setReadOnly(true);
+
+        Gauge.builder("event.search.index.documents", this, EventSearchIndex::size).register(meterRegistry);
+        Gauge.builder("event.search.index.terms", this, EventSearchIndex::terms).register(meterRegistry);
+    }
+
+    /**
+     * Builds the index once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // * Not fatal: the index will be built on first search
+            log.warn("Could not build event search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from the database
+     *
+     * ? Searches keep being answered by the previous index while the events are loaded
+     */
+    @Scheduled(
+        fixedDelayString = "${app.search.events.rebuild-ms:600000}",
+        initialDelayString = "${app.search.events.rebuild-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+                pendingIds.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long start = System.nanoTime();
+            try {
+                Index fresh = new Index();
+                long ticket = loads.incrementAndGet();
+                loadTx.execute(tx -> eventRepo.findAllViews()).forEach(view -> fresh.add(view, ticket));
+
+                // ? Events written meanwhile are loaded again until none is left, then the index is swapped
+                while (true) {
+                    List<Long> written;
+                    lock.writeLock().lock();
+                    try {
+                        if (pendingIds.isEmpty()) {
+                            index = fresh;
+                            built = true;
+                            rebuilding = false;
+                            break;
+                        }
+                        written = new ArrayList<>(pendingIds);
+                        pendingIds.clear();
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+
+                    long replayTicket = loads.incrementAndGet();
+                    fresh.replace(written, load(written), replayTicket);
+                }
+
+                log.info("Event search index built\n\tEvents: {}, Terms: {}, Time: {} ms",
+                    size(), terms(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuilding = false;
+                    pendingIds.clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * One page of a search, the number of matching events and the facet counts
+     */
+    public record SearchPage(List<EventView> events, long total, Map<Facet, List<FacetCount>> facets) {}
+
+    /**
+     * Searches events by text and filters
+     *
+     * @param criterion filters answered by the {@link EventCatalog} bitmaps (null for none)
+     * @param query search terms (optional, every word must match)
+     * @return matching event views, most relevant first (by start date without query)
+     */
+    public List<EventView> search(Criterion criterion, String query) {
+        return search(criterion, query, -1, false).events();
+    }
+
+    /**
+     * Searches events by text and filters, counting the matches of every facet value
+     *
+     * ? The page and the counts are read from the same state of the index
+     *
+     * @param criterion filters answered by the {@link EventCatalog} bitmaps (null for none)
+     * @param query search terms (optional, every word must match)
+     * @param limit number of events to return, most relevant first
+     * @return the first events, total matches and facet counts
+     */
+    public SearchPage searchFaceted(Criterion criterion, String query, int limit) {
+        return search(criterion, query, limit, true);
+    }
+
+    // * Incremental updates (applied after the current transaction commits)
+
+    /**
+     * Reloads an event from the database, removing it if it no longer exists
+     *
+     * @param id ID of the event created, updated or deleted
+     */
+    public void refresh(Long id) {
+        afterCommit(() -> apply(() -> List.of(id)));
+    }
+
+    /**
+     * Reloads the events of an organizer (their data is part of every event view)
+     *
+     * @param organizerId User ID
+     */
+    public void refreshOrganizer(Long organizerId) {
+        afterCommit(() -> apply(() -> index.idsMatching(d -> d.view().organizer().id().equals(organizerId))));
+    }
+
+    /**
+     * Reloads the events of a sport (its name is part of every event view)
+     *
+     * @param sportId Sport ID
+     */
+    public void refreshSport(Long sportId) {
+        afterCommit(() -> apply(() -> index.idsMatching(d -> d.view().sport().getId().equals(sportId))));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return index.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchPage search(Criterion criterion, String query, int limit, boolean countFacets) {
+        if (!built) buildIfNeeded();
+
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchText.tokenize(query)));
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms, criterion, limit, countFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void buildIfNeeded() {
+        synchronized (rebuildLock) {
+            if (!built) rebuild();
+        }
+    }
+
+    /**
+     * Reloads the given events, or queues them if a rebuild is loading
+     *
+     * ? The rows are read without the lock, a rebuild started meanwhile gets them as pending
+     *
+     * @param ids supplier of the event IDs, called with the write lock held
+     */
+    private void apply(Supplier<Collection<Long>> ids) {
+        Collection<Long> changed;
+        lock.writeLock().lock();
+        try {
+            // ? Not built yet: the first build reads the committed rows anyway
+            if (!built && !rebuilding) return;
+
+            changed = ids.get();
+            if (rebuilding) {
+                pendingIds.addAll(changed);
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (changed.isEmpty()) return;
+
+        long ticket = loads.incrementAndGet();
+        Map<Long, EventView> current = load(changed);
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingIds.addAll(changed);
+            } else {
+                index.replace(changed, current, ticket);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Event search index updated\n\tEvents: {}", changed);
+    }
+
+    /**
+     * Reads the current rows of the given events
+     *
+     * @param ids event IDs
+     * @return event ID to view, without the deleted events
+     */
+    private Map<Long, EventView> load(Collection<Long> ids) {
+        return loadTx.execute(tx -> eventRepo.findViewsByIdIn(ids))
+            .stream()
+            .collect(Collectors.toMap(EventView::id, view -> view));
+    }
+
+    /**
+     * Runs the action after the current transaction commits (or right away if there is none)
+     *
+     * @param action the action to run
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * An indexed event: its ordinal in the catalog, its view and the terms it was indexed by
+     */
+    private record Document(int ordinal, EventView view, Set<String> terms) {}
+
+    /**
+     * A matching event and its relevance
+     */
+    private record Hit(Document document, double score) {}
+
+    /**
+     * Postings and documents (not thread safe, guarded by the outer lock)
+     */
+    private static final class Index {
+        private static final Comparator<Hit> BY_RELEVANCE = Comparator
+            .comparingDouble(Hit::score).reversed()
+            .thenComparing(hit -> hit.document().view().startDate(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.document().view().id());
+
+        // ? Sorted by term, so the terms starting with a prefix are one contiguous range
+        private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        // * Documents by ordinal, ordinals of removed events stay empty until the next rebuild
+        private final List<Document> byOrdinal = new ArrayList<>();
+
+        private final EventCatalog catalog = new EventCatalog();
+
+        // * Ticket of the load each event (or its deletion) comes from
+        private final Map<Long, Long> loadedBy = new HashMap<>();
+
+        void add(EventView view, long ticket) {
+            loadedBy.put(view.id(), ticket);
+            add(view);
+        }
+
+        /**
+         * Replaces the given events with their rows, unless a later load already did
+         *
+         * @param ids event IDs
+         * @param current rows of the events still existing
+         * @param ticket ticket taken before loading the rows
+         */
+        void replace(Collection<Long> ids, Map<Long, EventView> current, long ticket) {
+            for (Long id : ids) {
+                Long previous = loadedBy.get(id);
+                if (previous != null && previous > ticket) continue;
+
+                loadedBy.put(id, ticket);
+                remove(id);
+                EventView view = current.get(id);
+                if (view != null) add(view);
+            }
+        }
+
+        private void add(EventView view) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, view.name(), NAME_WEIGHT);
+            addField(weights, view.city(), LOCATION_WEIGHT);
+            addField(weights, view.country(), LOCATION_WEIGHT);
+            addField(weights, view.description(), DESCRIPTION_WEIGHT);
+
+            Document document = new Document(byOrdinal.size(), view, Set.copyOf(weights.keySet()));
+            documents.put(view.id(), document);
+            byOrdinal.add(document);
+            catalog.add(document.ordinal(), view);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(view.id(), weight));
+        }
+
+        private void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) return;
+
+            byOrdinal.set(document.ordinal(), null);
+            catalog.remove(document.ordinal(), document.view());
+
+            for (String term : document.terms()) {
+                Map<Long, Float> events = postings.get(term);
+                events.remove(id);
+                if (events.isEmpty()) postings.remove(term);
+            }
+        }
+
+        List<Long> idsMatching(Predicate<Document> predicate) {
+            return documents.values().stream()
+                .filter(predicate)
+                .map(d -> d.view().id())
+                .toList();
+        }
+
+        /**
+         * Finds the events matching the words and the filters
+         *
+         * @param terms folded query words (every event if empty)
+         * @param criterion catalog filters (null for none)
+         * @param limit number of most relevant events to keep (all if negative)
+         * @param countFacets whether to count the facets of the matching events
+         */
+        SearchPage search(List<String> terms, Criterion criterion, int limit, boolean countFacets) {
+            Map<Long, Double> scores = terms.isEmpty() ? null : score(terms);
+
+            // ? Events matching the words, regardless of the filters (null if every event)
+            RoaringBitmap textMatches = null;
+            if (scores != null) {
+                textMatches = new RoaringBitmap();
+                for (Long id : scores.keySet()) textMatches.add(documents.get(id).ordinal());
+            }
+
+            RoaringBitmap filtered = catalog.matching(criterion);
+            if (textMatches != null) filtered.and(textMatches);
+
+            List<Hit> hits = new ArrayList<>(filtered.getCardinality());
+            filtered.forEach((int ordinal) -> {
+                Document document = byOrdinal.get(ordinal);
+                hits.add(new Hit(document, scores != null ? scores.get(document.view().id()) : 0));
+            });
+
+            return new SearchPage(
+                top(hits, limit).stream().map(hit -> hit.document().view()).toList(),
+                hits.size(),
+                countFacets ? catalog.countAll(criterion, textMatches) : Map.of());
+        }
+
+        /**
+         * Sorts the most relevant hits
+         *
+         * ? A page only needs its first events in order, they are selected with a bounded heap
+         * ? instead of sorting every hit
+         */
+        private static List<Hit> top(List<Hit> hits, int limit) {
+            if (limit < 0 || limit >= hits.size()) {
+                hits.sort(BY_RELEVANCE);
+                return hits;
+            }
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, BY_RELEVANCE.reversed());
+            for (Hit hit : hits) {
+                best.add(hit);
+                if (best.size() > limit) best.poll();
+            }
+            List<Hit> sorted = new ArrayList<>(best);
+            sorted.sort(BY_RELEVANCE);
+            return sorted;
+        }
+
+        /**
+         * Scores the events matching every query word
+         *
+         * ? The rarest word is scored first, the others are only looked up for its events
+         *
+         * @param terms folded query words
+         * @return event ID to score (empty if an event must match a word no event has)
+         */
+        private Map<Long, Double> score(List<String> terms) {
+            List<List<Map.Entry<String, Map<Long, Float>>>> matches = new ArrayList<>();
+            for (String term : terms) {
+                List<Map.Entry<String, Map<Long, Float>>> matching =
+                    new ArrayList<>(postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet());
+                if (matching.isEmpty()) return new HashMap<>();
+                matches.add(matching);
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < terms.size(); i++) order.add(i);
+            order.sort(Comparator.comparingLong(i -> postingsSize(matches.get(i))));
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (int position = 0; position < order.size(); position++) {
+                int i = order.get(position);
+                String term = terms.get(i);
+                List<Map.Entry<String, Map<Long, Float>>> matching = matches.get(i);
+
+                if (position == 0) {
+                    matching.forEach(entry -> entry.getValue().forEach((id, weight) ->
+                        scores.merge(id, weight * weight(term, entry), Math::max)));
+                } else {
+                    scores.entrySet().removeIf(candidate -> {
+                        double best = 0;
+                        for (Map.Entry<String, Map<Long, Float>> entry : matching) {
+                            Float weight = entry.getValue().get(candidate.getKey());
+                            if (weight != null) best = Math.max(best, weight * weight(term, entry));
+                        }
+                        if (best == 0) return true;
+
+                        candidate.setValue(candidate.getValue() + best);
+                        return false;
+                    });
+                }
+                if (scores.isEmpty()) break;
+            }
+
+            return scores;
+        }
+
+        /**
+         * Weight of an indexed term matched by a query word
+         *
+         * @param term folded query word
+         * @param entry indexed term and its events
+         * @return rarity of the term, halved if it is only a prefix match
+         */
+        private double weight(String term, Map.Entry<String, Map<Long, Float>> entry) {
+            // * Terms found in few events weigh more (inverse document frequency)
+            double rarity = Math.log(1 + (double) documents.size() / entry.getValue().size());
+            return entry.getKey().length() == term.length() ? rarity : rarity * PREFIX_FACTOR;
+        }
+
+        private static long postingsSize(List<Map.Entry<String, Map<Long, Float>>> matching) {
+            long size = 0;
+            for (Map.Entry<String, Map<Long, Float>> entry : matching) size += entry.getValue().size();
+            return size;
+        }
+
+        /**
+         * Adds the terms of a field, repeated words saturate (1 + ln count)
+         */
+        private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+            Map<String, Integer> counts = new HashMap<>();
+            SearchText.tokenize(text).forEach(term -> counts.merge(term, 1, Integer::sum));
+            counts.forEach((term, count) ->
+                weights.merge(term, (float) (fieldWeight * (1 + Math.log(count))), Float::sum));
+        }
+    }
+}
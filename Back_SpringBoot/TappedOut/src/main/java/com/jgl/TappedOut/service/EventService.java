@@ -5,6 +5,9 @@ import java.util.List;
 import com.jgl.TappedOut.dto.CategoryResponseDTO;
 import com.jgl.TappedOut.dto.EventCreateDTO;
 import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.EventSearchFilterDTO;
+import com.jgl.TappedOut.dto.EventSearchPageDTO;
+import com.jgl.TappedOut.dto.EventSliceDTO;
 import com.jgl.TappedOut.dto.EventUpdateDTO;
 import com.jgl.TappedOut.models.EventStatus;
 
@@ -16,14 +19,15 @@ import com.jgl.TappedOut.models.EventStatus;
  * @since 2025
  */
 public interface EventService {
-    List<EventResponseDTO> getAllEvents();
-    List<EventResponseDTO> getEventsBySportId(Long sportId);
+    EventSliceDTO getAllEvents(String cursor, Integer size);
+    EventSliceDTO getEventsBySportId(Long sportId, String cursor, Integer size);
     List<EventResponseDTO> getEventsByOrganizerId(Long organizerId);
-    List<EventResponseDTO> getEventsByStatus(EventStatus status);
+    EventSliceDTO getEventsByStatus(EventStatus status, String cursor, Integer size);
     List<EventResponseDTO> getEventsByLocation(String country, String city);
-    List<EventResponseDTO> getUpcomingEvents();
-    List<EventResponseDTO> getPastEvents();
-    List<EventResponseDTO> searchEvents(Long sportId, String country, String city, String query);
+    EventSliceDTO getUpcomingEvents(String cursor, Integer size);
+    EventSliceDTO getPastEvents(String cursor, Integer size);
+    List<EventResponseDTO> searchEvents(EventSearchFilterDTO filter);
+    EventSearchPageDTO searchEventsFaceted(EventSearchFilterDTO filter, Integer page, Integer size);
     EventResponseDTO getEventById(Long id);
     List<CategoryResponseDTO> getEventCategories(Long eventId);
     void addCategoryToEvent(Long eventId, Long categoryId);
@@ -1,20 +1,29 @@
 package com.jgl.TappedOut.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jgl.TappedOut.dto.CategoryResponseDTO;
 import com.jgl.TappedOut.dto.EventCreateDTO;
 import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.EventSearchFilterDTO;
+import com.jgl.TappedOut.dto.EventSearchPageDTO;
+import com.jgl.TappedOut.dto.EventSliceDTO;
 import com.jgl.TappedOut.dto.EventUpdateDTO;
-import com.jgl.TappedOut.dto.InscriptionResponseDTO;
+import com.jgl.TappedOut.dto.EventView;
+import com.jgl.TappedOut.dto.FacetCountDTO;
 import com.jgl.TappedOut.mapper.CategoryMapper;
 import com.jgl.TappedOut.mapper.EventMapper;
 import com.jgl.TappedOut.models.Category;
@@ -25,6 +34,14 @@ import com.jgl.TappedOut.models.Sport;
 import com.jgl.TappedOut.models.User;
 import com.jgl.TappedOut.repositories.EventCategoryRepository;
 import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.service.EventCatalog.All;
+import com.jgl.TappedOut.service.EventCatalog.Criterion;
+import com.jgl.TappedOut.service.EventCatalog.Facet;
+import com.jgl.TappedOut.service.EventCatalog.FacetIn;
+import com.jgl.TappedOut.service.EventCatalog.FacetCount;
+import com.jgl.TappedOut.service.EventCatalog.FeeBetween;
+import com.jgl.TappedOut.service.EventCatalog.StartBetween;
+import com.jgl.TappedOut.service.EventSearchIndex.SearchPage;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -68,41 +85,68 @@ public class EventServiceImpl implements EventService {
     private CategoryServiceImpl categoryService;
 
     @Autowired
-    private InscriptionServiceImpl inscriptionService;
+    private EventReminderService reminderService;
+
+    @Autowired
+    private EventUpdateNotifier updateNotifier;
+
+    @Autowired
+    private EventSearchIndex searchIndex;
+
+    @Autowired
+    private PageSizes pageSizes;
 
 
     /**
-     * Retrieves all events
+     * Retrieves a page of events ordered by start date
      * 
-     * @return List of EventResponseDTO
+     * @param cursor Continuation token of the previous page (null for the first page)
+     * @param size Page size (bounded by the max page size)
+     * @return EventSliceDTO
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> getAllEvents() {
-        log.debug("Fetching all Event");
+    public EventSliceDTO getAllEvents(String cursor, Integer size) {
+        log.debug("Fetching all Event\n\tCursor: {}, Size: {}", cursor, size);
 
-        return eventRepo.findAll().stream()
-            .map(eventMapper::toResponseDTO)
-            .collect(Collectors.toList());
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = pageSizes.resolve(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<EventView> events = after == null
+            ? eventRepo.findAllPage(page)
+            : eventRepo.findAllAfter(after.getStartDate(), after.getId(), page);
+
+        return toSlice(events, limit);
     }
 
     /**
-     * Retrieves events by sport ID
+     * Retrieves a page of events by sport ID
      * 
      * @param sportId Sport ID
-     * @return List of EventResponseDTO
+     * @param cursor Continuation token of the previous page (null for the first page)
+     * @param size Page size (bounded by the max page size)
+     * @return EventSliceDTO
+     * @throws EntityNotFoundException if sport not found from SportService
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> getEventsBySportId(Long sportId) {
-        log.debug("Fetching Event\n\tSport ID: {}", sportId);
+    public EventSliceDTO getEventsBySportId(Long sportId, String cursor, Integer size) {
+        log.debug("Fetching Event\n\tSport ID: {}\n\tCursor: {}, Size: {}", sportId, cursor, size);
 
         Sport sport = sportService.findSportByIdOrThrow(sportId);
 
-        return eventRepo.findBySportId(sport)
-            .stream()
-            .map(eventMapper::toResponseDTO)
-            .collect(Collectors.toList());
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = pageSizes.resolve(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<EventView> events = after == null
+            ? eventRepo.findBySportIdPage(sport.getId(), page)
+            : eventRepo.findBySportIdAfter(sport.getId(), after.getStartDate(), after.getId(), page);
+
+        return toSlice(events, limit);
     }
 
     /**
@@ -118,27 +162,35 @@ public class EventServiceImpl implements EventService {
 
         User organizer = userService.findUserByIdOrThrow(organizerId);
 
-        return eventRepo.findByOrganizerId(organizer)
+        return eventRepo.findViewsByOrganizerId(organizer)
             .stream()
             .map(eventMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
 
     /**
-     * Retrieves events by status
+     * Retrieves a page of events by status
      * 
      * @param status Event status
-     * @return List of EventResponseDTO
+     * @param cursor Continuation token of the previous page (null for the first page)
+     * @param size Page size (bounded by the max page size)
+     * @return EventSliceDTO
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> getEventsByStatus(EventStatus status) {
-        log.debug("Fetching Event\n\tStatus: {}", status);
+    public EventSliceDTO getEventsByStatus(EventStatus status, String cursor, Integer size) {
+        log.debug("Fetching Event\n\tStatus: {}\n\tCursor: {}, Size: {}", status, cursor, size);
 
-        return eventRepo.findByStatus(status)
-            .stream()
-            .map(eventMapper::toResponseDTO)
-            .collect(Collectors.toList());
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = pageSizes.resolve(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<EventView> events = after == null
+            ? eventRepo.findByStatusPage(status, page)
+            : eventRepo.findByStatusAfter(status, after.getStartDate(), after.getId(), page);
+
+        return toSlice(events, limit);
     }
 
     /**
@@ -153,65 +205,120 @@ public class EventServiceImpl implements EventService {
     public List<EventResponseDTO> getEventsByLocation(String country, String city) {
         log.debug("Fetching Event\n\tLocation -\n\t\tCountry: {}, City: {}", country, city);
 
-        return eventRepo.findByCountryAndCity(country.trim(), city.trim())
+        return eventRepo.findViewsByCountryAndCity(country.trim(), city.trim())
             .stream()
             .map(eventMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
 
     /**
-     * Retrieves upcoming events
+     * Retrieves a page of upcoming events
      * 
-     * @return List of EventResponseDTO
+     * @param cursor Continuation token of the previous page (null for the first page)
+     * @param size Page size (bounded by the max page size)
+     * @return EventSliceDTO
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> getUpcomingEvents() {
-        log.debug("Fetching upcoming Event");
+    public EventSliceDTO getUpcomingEvents(String cursor, Integer size) {
+        log.debug("Fetching upcoming Event\n\tCursor: {}, Size: {}", cursor, size);
 
-        return eventRepo.findUpcomingEvents()
-            .stream()
-            .map(eventMapper::toResponseDTO)
-            .collect(Collectors.toList());
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = pageSizes.resolve(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<EventView> events = after == null
+            ? eventRepo.findUpcomingEventsPage(page)
+            : eventRepo.findUpcomingEventsAfter(after.getStartDate(), after.getId(), page);
+
+        return toSlice(events, limit);
+    }
+
+    /**
+     * Retrieves a page of past events (most recent first)
+     * 
+     * @param cursor Continuation token of the previous page (null for the first page)
+     * @param size Page size (bounded by the max page size)
+     * @return EventSliceDTO
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventSliceDTO getPastEvents(String cursor, Integer size) {
+        log.debug("Fetching past Event\n\tCursor: {}, Size: {}", cursor, size);
+
+        EventCursor before = EventCursor.decode(cursor);
+        int limit = pageSizes.resolve(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<EventView> events = before == null
+            ? eventRepo.findPastEventsPage(page)
+            : eventRepo.findPastEventsBefore(before.getStartDate(), before.getId(), page);
+
+        return toSlice(events, limit);
     }
 
     /**
-     * Retrieves past events
+     * Retrieves events by filters
+     * 
+     * ? Answered by {@link EventSearchIndex}, most relevant first when there is a query
      * 
+     * @param filter EventSearchFilterDTO
      * @return List of EventResponseDTO
+     * @throws EntityNotFoundException if a sport is not found from SportService
+     * @throws IllegalArgumentException if a range starts after it ends
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> getPastEvents() {
-        log.debug("Fetching past Event");
+    public List<EventResponseDTO> searchEvents(EventSearchFilterDTO filter) {
+        log.debug("Searching Event\n\tFilters: {}", filter);
 
-        return eventRepo.findPastEvents()
+        return searchIndex.search(toCriterion(filter), filter.getQuery())
             .stream()
             .map(eventMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
 
     /**
-     * Retrieves events by filters
+     * Retrieves one page of events by filters with the counts of every facet
      * 
-     * @param sportId Sport ID
-     * @param country Country name
-     * @param city City name
-     * @param query Search term
-     * @return List of EventResponseDTO
+     * ? The page and the counts come from the same read of {@link EventSearchIndex},
+     * ? so they always agree. Only the events up to the requested page are sorted
+     * 
+     * @param filter EventSearchFilterDTO
+     * @param page page number, starting at 0 (optional)
+     * @param size page size (optional)
+     * @return EventSearchPageDTO
+     * @throws EntityNotFoundException if a sport is not found from SportService
+     * @throws IllegalArgumentException if a range starts after it ends or the page is not valid
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EventResponseDTO> searchEvents(Long sportId, String country, String city, String query) {
-        log.debug("Searching Event\n\tFilters -\n\t\tSport: {},\n\t\tCountry: {}, City: {},\n\t\tQuery: {}",
-        sportId, country, city, query);
+    public EventSearchPageDTO searchEventsFaceted(EventSearchFilterDTO filter, Integer page, Integer size) {
+        log.debug("Searching Event with facets\n\tFilters: {}\n\tPage: {}\n\tSize: {}", filter, page, size);
 
-        Sport sport = sportId != null ? sportService.findSportByIdOrThrow(sportId) : null;
+        int limit = pageSizes.resolve(size);
+        int number = page == null ? 0 : page;
+        if (number < 0)
+            throw new IllegalArgumentException("Page number must not be negative");
 
-        return eventRepo.searchEvents(sport, country, city, query)
+        long offset = (long) number * limit;
+        SearchPage result = searchIndex.searchFaceted(
+            toCriterion(filter), filter.getQuery(), (int) Math.min(offset + limit, Integer.MAX_VALUE));
+
+        List<EventResponseDTO> content = result.events()
             .stream()
+            .skip(offset)
             .map(eventMapper::toResponseDTO)
             .collect(Collectors.toList());
+
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        result.facets().forEach((facet, counts) -> facets.put(
+            facet.name().toLowerCase(Locale.ROOT),
+            counts.stream().map(this::toFacetCountDTO).collect(Collectors.toList())));
+
+        return new EventSearchPageDTO(content, number, limit, result.total(), offset + limit < result.total(), facets);
     }
 
     /**
@@ -344,6 +451,7 @@ public class EventServiceImpl implements EventService {
         try {
             Event event = eventMapper.fromCreateDTO(dto);
             event = eventRepo.save(event);
+            searchIndex.refresh(event.getId());
             log.info("Successfully created new event with ID: {}", event.getId());
 
             emailService.sendEventCreationEmail(
@@ -379,14 +487,11 @@ public class EventServiceImpl implements EventService {
         try {
             eventMapper.updateFromDTO(dto, event);
             Event updatedEvent = eventRepo.save(event);
+            searchIndex.refresh(id);
             log.info("Successfully updated event with ID: {}", id);
 
-            for (InscriptionResponseDTO ins : inscriptionService.getInscriptionsByEvent(id)) {
-                emailService.sendEventUpdateNotification(
-                    ins.getCompetitor().getEmail().trim().toLowerCase(),
-                    event.getName().trim().toUpperCase(),
-                    event.getStartDate().toString());
-            }
+            // * Coalesced: repeated saves end up in a single notification with the latest state
+            updateNotifier.requestNotification(id);
 
             return eventMapper.toResponseDTO(updatedEvent);
         } catch (Exception e) {
@@ -412,6 +517,7 @@ public class EventServiceImpl implements EventService {
         try {
             eventCategoryRepo.deleteByEventId(event);
             eventRepo.deleteById(id);
+            searchIndex.refresh(id);
             log.info("Successfully deleted Event with ID: {}", id);
         } catch (Exception e) {
             log.error("Error deleting Event with ID: {} - {}", id, e.getMessage(), e);
@@ -420,26 +526,48 @@ public class EventServiceImpl implements EventService {
     }
 
     /**
-     * Scheduled method to send a reminder when a event is about to strat
+     * Sends the reminders of the events that are about to start
+     * ? Delegates to {@link EventReminderService}, which also runs it on schedule
      */
-    @Scheduled(cron = "0 0 0 * * *")
+    @Override
     public void sendReminder() {
-        LocalDateTime targetDate = LocalDateTime.now().plusDays(3).withHour(0).withMinute(0).withSecond(0).withNano(0);
-
-        List<Event> upcoming = eventRepo.findByStartDateBetween(targetDate, targetDate.plusDays(1));
+        reminderService.sendReminders();
+    }
 
-        for (Event event : upcoming) {
-            List<InscriptionResponseDTO> inscriptions = inscriptionService.getInscriptionsByEvent(event.getId());
-            log.info("Event with ID: {} has {} inscriptions", event.getId(), inscriptions.size());
-            log.info("Sending reminder to {} inscriptions", inscriptions.size());
+    /**
+     * Method to translate the search filters into a catalog criterion
+     * 
+     * @param filter EventSearchFilterDTO
+     * @return All of the given filters (every event if there are none)
+     * @throws EntityNotFoundException if a sport is not found from SportService
+     * @throws IllegalArgumentException if a range starts after it ends
+     */
+    public Criterion toCriterion(EventSearchFilterDTO filter) {
+        List<Criterion> criteria = new ArrayList<>();
 
-            for (InscriptionResponseDTO ins : inscriptions) {
-                emailService.sendRememberNotification(
-                    ins.getCompetitor().getEmail().trim().toLowerCase(),
-                    event.getName().trim().toUpperCase(),
-                    event.getStartDate().toString());
-            }
+        if (filter.getSportIds() != null && !filter.getSportIds().isEmpty()) {
+            filter.getSportIds().forEach(sportService::findSportByIdOrThrow);
+            criteria.add(new FacetIn(Facet.SPORT, filter.getSportIds().stream().map(String::valueOf).toList(), false));
         }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty())
+            criteria.add(new FacetIn(Facet.STATUS, filter.getStatuses().stream().map(EventStatus::name).toList(), false));
+        if (filter.getCountries() != null && !filter.getCountries().isEmpty())
+            criteria.add(new FacetIn(Facet.COUNTRY, filter.getCountries(), true));
+        if (filter.getCities() != null && !filter.getCities().isEmpty())
+            criteria.add(new FacetIn(Facet.CITY, filter.getCities(), true));
+
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo()))
+                throw new IllegalArgumentException("Search start date must be before end date");
+            criteria.add(new StartBetween(filter.getFrom(), filter.getTo()));
+        }
+        if (filter.getMinFee() != null || filter.getMaxFee() != null) {
+            if (filter.getMinFee() != null && filter.getMaxFee() != null && filter.getMinFee().compareTo(filter.getMaxFee()) > 0)
+                throw new IllegalArgumentException("Minimum fee must not be above maximum fee");
+            criteria.add(new FeeBetween(filter.getMinFee(), filter.getMaxFee()));
+        }
+
+        return new All(criteria);
     }
 
     /**
@@ -457,6 +585,34 @@ public class EventServiceImpl implements EventService {
             });
     }
 
+    private FacetCountDTO toFacetCountDTO(FacetCount count) {
+        return new FacetCountDTO(count.key(), count.label(), count.count());
+    }
+
+    /**
+     * Method to build a page from the rows fetched (one more than the page size)
+     * 
+     * @param events events fetched, at most limit + 1
+     * @param limit page size
+     * @return EventSliceDTO with the cursor of the last event if there are more
+     */
+    private EventSliceDTO toSlice(List<EventView> events, int limit) {
+        boolean hasNext = events.size() > limit;
+        List<EventView> page = hasNext ? events.subList(0, limit) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            EventView last = page.get(page.size() - 1);
+            nextCursor = EventCursor.encode(last.startDate(), last.id());
+        }
+
+        return new EventSliceDTO(
+            page.stream()
+                .map(eventMapper::toResponseDTO)
+                .collect(Collectors.toList()),
+            nextCursor);
+    }
+
     /**
      * Method to find an category belonging to an event
      * 
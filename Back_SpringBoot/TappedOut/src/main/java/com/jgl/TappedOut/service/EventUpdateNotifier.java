@@ -0,0 +1,119 @@
+package com.jgl.TappedOut.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.conf.ClusterLock;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.PendingEventNotification;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.PendingEventNotificationRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class that coalesces the event update notifications
+ * 
+ * ? Saving an event only schedules (or postpones) its {@link PendingEventNotification}.
+ * ? Once the event has not been saved for the quiet period, the latest state of the
+ * ? event is notified to its competitors once, no matter how many saves there were
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Slf4j
+public class EventUpdateNotifier {
+    @Autowired
+    private PendingEventNotificationRepository pendingRepo;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.notifications.event-update.quiet-seconds:300}")
+    private long quietSeconds;
+
+    @Value("${app.notifications.event-update.max-delay-seconds:1800}")
+    private long maxDelaySeconds;
+
+    private TransactionTemplate perEventTx;
+
+    @PostConstruct
+    void init() {
+        perEventTx = new TransactionTemplate(transactionManager);
+        perEventTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Schedules the update notification of an event, joining the current transaction
+     * 
+     * @param eventId Event ID
+     */
+    @Transactional
+    public void requestNotification(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        pendingRepo.schedule(eventId, now.plusSeconds(quietSeconds), now.plusSeconds(maxDelaySeconds));
+        log.debug("Update notification scheduled\n\tEvent ID: {}", eventId);
+    }
+
+    /**
+     * Sends the notifications whose quiet period is over
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.event-update.poll-ms:15000}")
+    @ClusterLock(name = "event-update-notifications", lockAtMostSeconds = 300)
+    public void sendDueNotifications() {
+        List<Long> due = pendingRepo.findDueEventIds(LocalDateTime.now());
+
+        for (Long eventId : due) {
+            try {
+                perEventTx.executeWithoutResult(status -> notifyEvent(eventId));
+            } catch (Exception e) {
+                log.error("Error notifying update of Event with ID: {} - {}", eventId, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Takes the pending notification of an event and queues it for its competitors
+     * 
+     * @param eventId Event ID
+     */
+    private void notifyEvent(Long eventId) {
+        // ! Saved again since it was read: it is not due anymore
+        if (pendingRepo.takeDue(eventId, LocalDateTime.now()) == 0) return;
+
+        Event event = eventRepo.findById(eventId).orElse(null);
+        if (event == null) return;
+
+        List<String> recipients = inscriptionRepo.findCompetitorEmailsByEventId(eventId);
+
+        emailService.sendEventUpdateNotifications(
+            recipients,
+            event.getName().trim().toUpperCase(),
+            event.getStartDate().toString());
+
+        log.info("Update of Event with ID: {} notified to {} competitors", eventId, recipients.size());
+    }
+}
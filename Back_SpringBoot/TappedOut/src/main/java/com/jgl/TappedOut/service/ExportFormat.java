@@ -0,0 +1,39 @@
+package com.jgl.TappedOut.service;
+
+import java.util.Locale;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Formats supported when exporting data as a file
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    /**
+     * Resolves the format requested by the client (case insensitive)
+     *
+     * @param value the requested format
+     * @return the ExportFormat
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ExportFormat fromValue(String value) {
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+}
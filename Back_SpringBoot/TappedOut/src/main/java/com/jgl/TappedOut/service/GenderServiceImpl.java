@@ -37,6 +37,9 @@ public class GenderServiceImpl implements GenderService {
     @Autowired
     private GenderRepository genderRepo;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Autowired
     private GenderMapper genderMapper;
 
@@ -51,7 +54,7 @@ public class GenderServiceImpl implements GenderService {
     public List<GenderResponseDTO> getAllGenders() {
         log.debug("Fetching all Gender");
 
-        return genderRepo.findAll()
+        return referenceDataCache.findAllGenders()
             .stream()
             .map(genderMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -109,6 +112,7 @@ public class GenderServiceImpl implements GenderService {
         try {
             Gender gender = genderMapper.fromCreateDTO(dto);
             gender = genderRepo.save(gender);
+            referenceDataCache.invalidateGenders();
             log.info("Successfully created Gender with ID: {}", gender.getId());
             return genderMapper.toResponseDTO(gender);
         } catch (Exception e) {
@@ -141,6 +145,7 @@ public class GenderServiceImpl implements GenderService {
         try {
             genderMapper.updateFromDTO(dto, gender);
             Gender updated = genderRepo.save(gender);
+            referenceDataCache.invalidateGenders();
             log.info("Successfully updated Gender with ID: {}", id);
             return genderMapper.toResponseDTO(updated);
         } catch (Exception e) {
@@ -165,6 +170,7 @@ public class GenderServiceImpl implements GenderService {
 
         try {
             genderRepo.deleteById(id);
+            referenceDataCache.invalidateGenders();
             log.info("Successfully deleted Gender with ID: {}", id);
         } catch (Exception e) {
             log.error("Error deleting Gender with ID: {} - {}", id, e.getMessage(), e);
@@ -180,7 +186,7 @@ public class GenderServiceImpl implements GenderService {
      * @throws EntityNotFoundException if gender not found
      */
     public Gender findGenderByIdOrThrow(Long id) {
-        return genderRepo.findById(id)
+        return referenceDataCache.findGender(id)
             .orElseThrow(() -> {
                 log.error("Gender with ID: {} not found", id);
                 throw new EntityNotFoundException("Gender not found");
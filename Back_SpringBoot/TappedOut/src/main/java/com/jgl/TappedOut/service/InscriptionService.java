@@ -1,5 +1,6 @@
 package com.jgl.TappedOut.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import com.jgl.TappedOut.dto.InscriptionCreateDTO;
@@ -22,6 +23,8 @@ public interface InscriptionService {
     List<InscriptionResponseDTO> getInscriptionByPaymentStatus(PaymentStatus status);
     List<InscriptionResponseDTO> getPaidInscriptionsByEvent(Long eventId);
     Long countPaidInscriptionsByEvent(Long eventId);
+    Long countInscriptionsByEvent(Long eventId);
+    void exportInscriptionsByEvent(Long eventId, ExportFormat format, OutputStream out);
     InscriptionResponseDTO getInscriptionById(Long id);
     List<InscriptionResponseDTO> getInscriptionByCompetitorAndEvent(Long competitorId, Long eventId);
     InscriptionResponseDTO createInscription(InscriptionCreateDTO dto);
@@ -1,16 +1,28 @@
 package com.jgl.TappedOut.service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jgl.TappedOut.dto.InscriptionCreateDTO;
+import com.jgl.TappedOut.dto.InscriptionExportRowDTO;
 import com.jgl.TappedOut.dto.InscriptionResponseDTO;
 import com.jgl.TappedOut.dto.InscriptionUpdateDTO;
 import com.jgl.TappedOut.mapper.InscriptionMapper;
@@ -38,6 +50,8 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 @Slf4j
 public class InscriptionServiceImpl implements InscriptionService {
+    private static final String CSV_HEADER = "inscription_id,competitor_id,dni,first_name,last_name,email,category_id,category_name,register_date,payment_status";
+
     @Autowired
     private EmailService emailService;
 
@@ -57,6 +71,9 @@ public class InscriptionServiceImpl implements InscriptionService {
     @Autowired
     private CategoryServiceImpl categoryService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
 
     /**
      * Retrieves all inscriptions
@@ -192,6 +209,106 @@ public class InscriptionServiceImpl implements InscriptionService {
         return inscriptionRepo.countByEventIdAndPaymentStatus(event, PaymentStatus.PAID);
     }
 
+    /**
+     * Counts all inscriptions of an event
+     * 
+     * @param eventId the ID of the event
+     * @return Number of inscriptions
+     * @throws EntityNotFoundException if referenced event not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long countInscriptionsByEvent(Long eventId) {
+        log.debug("Counting Inscription\n\tEvent ID: {}", eventId);
+
+        Event event = eventService.findEventByIdOrThrow(eventId);
+
+        return inscriptionRepo.countByEventId(event);
+    }
+
+    /**
+     * Writes every inscription of an event to the given output stream
+     * 
+     * ? Rows are streamed from the database and written one by one, so memory
+     * ? usage does not depend on the number of inscriptions
+     * * The output stream is flushed but not closed
+     * 
+     * @param eventId the ID of the event
+     * @param format the ExportFormat (NDJSON or CSV)
+     * @param out the OutputStream to write to
+     * @throws EntityNotFoundException if referenced event not found
+     * @throws UncheckedIOException if writing to the output stream fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInscriptionsByEvent(Long eventId, ExportFormat format, OutputStream out) {
+        log.debug("Exporting Inscription\n\tEvent ID: {}\n\tFormat: {}", eventId, format);
+
+        Event event = eventService.findEventByIdOrThrow(eventId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rowCount = 0;
+
+        try (Stream<InscriptionExportRowDTO> rows = inscriptionRepo.streamExportRowsByEventId(event)) {
+            if (format == ExportFormat.CSV) writer.write(CSV_HEADER + "\n");
+
+            Iterator<InscriptionExportRowDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                InscriptionExportRowDTO row = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                rowCount++;
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            log.error("Error exporting Inscription\n\tEvent ID: {}\n\tRows written: {}", eventId, rowCount, e);
+            throw new UncheckedIOException("Error exporting inscriptions", e);
+        }
+
+        log.info("Inscription exported\n\tEvent ID: {}\n\tRows: {}", eventId, rowCount);
+    }
+
+    /**
+     * Converts an export row into a CSV line (without line break)
+     * 
+     * @param row the InscriptionExportRowDTO
+     * @return the CSV line
+     */
+    private String toCsvLine(InscriptionExportRowDTO row) {
+        return String.join(",",
+            csvField(row.getInscriptionId()),
+            csvField(row.getCompetitorId()),
+            csvField(row.getDni()),
+            csvField(row.getFirstName()),
+            csvField(row.getLastName()),
+            csvField(row.getEmail()),
+            csvField(row.getCategoryId()),
+            csvField(row.getCategoryName()),
+            csvField(row.getRegisterDate()),
+            csvField(row.getPaymentStatus()));
+    }
+
+    /**
+     * Escapes a value following RFC 4180
+     * 
+     * ! A value starting with =, +, -, @, tab or CR is read as a formula by spreadsheets
+     * ! (names and emails are user input), so it is prefixed with ' and quoted
+     * 
+     * @param value the value (may be null)
+     * @return the escaped field
+     */
+    private String csvField(Object value) {
+        String text = Objects.toString(value, "");
+
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0)
+            return "\"'" + text.replace("\"", "\"\"") + "\"";
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r"))
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+
+        return text;
+    }
+
     /** 
      * Retrieves Inscription by ID
      * 
@@ -0,0 +1,38 @@
+package com.jgl.TappedOut.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the page size requested by the client to app.pagination.*
+ * 
+ * ? Shared by every paged or limited endpoint, so they all apply the same default and maximum
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class PageSizes {
+    @Value("${app.pagination.default-size:20}")
+    private int defaultSize;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxSize;
+
+    /**
+     * Method to bound the page size requested by the client
+     * 
+     * @param size requested page size (optional)
+     * @return the page size to use
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public int resolve(Integer size) {
+        if (size == null) return defaultSize;
+
+        if (size <= 0)
+            throw new IllegalArgumentException("Page size must be a positive number");
+
+        return Math.min(size, maxSize);
+    }
+}
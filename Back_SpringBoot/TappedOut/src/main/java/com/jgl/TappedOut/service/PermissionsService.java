@@ -1,71 +1,55 @@
 package com.jgl.TappedOut.service;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.jgl.TappedOut.models.Event;
-import com.jgl.TappedOut.models.Inscription;
-import com.jgl.TappedOut.models.Result;
 import com.jgl.TappedOut.models.User;
-import com.jgl.TappedOut.repositories.EventRepository;
-import com.jgl.TappedOut.repositories.InscriptionRepository;
-import com.jgl.TappedOut.repositories.ResultRepository;
-import com.jgl.TappedOut.repositories.UserRepository;
+import com.jgl.TappedOut.service.AuthorizationContext.CurrentUser;
 
 /**
  * Service class to handle permissions logic related with {@link User}
  * 
+ * ? The user, events, inscriptions and results are taken from the request scoped
+ * ? {@link AuthorizationContext}, so chained SpEL checks do not repeat queries
+ * 
  * @author Jorge García López
- * @version 1.0
+ * @version 1.1
  * @since 2025
  */
 @Service
 public class PermissionsService {
     @Autowired
-    private UserRepository userRepo;
-
-    @Autowired
-    private EventRepository eventRepo;
-
-    @Autowired
-    private InscriptionRepository inscriptionRepo;
-
-    @Autowired
-    private ResultRepository resultRepo;
+    private AuthorizationContext authContext;
 
     /**
-     * Retrieves current authenticated user
+     * Retrieves current authenticated user (ID and role)
      */
-    public User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        if (auth == null || auth.getName() == null)
-            return null;
-
-        return userRepo.findByEmail(auth.getName()).orElse(null);
+    public CurrentUser getCurrentUser() {
+        return authContext.getCurrentUser();
     }
 
     /**
      * Verifies if current user has admin role
      */
     public boolean isAdmin() {
-        return getCurrentUser() != null && "ADMIN".equals(getCurrentUser().getTypeId().getName());
+        return hasRole("ADMIN");
     }
 
     /**
      * Verifies if current user has organizer role
      */
     public boolean isOrganizer() {
-        return getCurrentUser() != null && "ORGANIZER".equals(getCurrentUser().getTypeId().getName());
+        return hasRole("ORGANIZER");
     }
 
     /**
      * Verifies if current user has competitor role
      */
     public boolean isCompetitor() {
-        return getCurrentUser() != null && "COMPETITOR".equals(getCurrentUser().getTypeId().getName());
+        return hasRole("COMPETITOR");
     }
 
     /**
@@ -75,13 +59,13 @@ public class PermissionsService {
      * COMPETITOR: can edit their own profile
      */
     public boolean canEditUser(User user) {
-        User currUser = getCurrentUser();
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
-        return currUser.getId().equals(user.getId());
+        return currUser.id().equals(user.getId());
     }
 
     /**
@@ -90,15 +74,14 @@ public class PermissionsService {
      * ORGANIZER: can edit their events
      */
     public boolean canEditEvent(Long eventId) {
-        User currUser = getCurrentUser();
-        Event event = eventRepo.findById(eventId).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
         if (isOrganizer())
-            return event != null && event.getOrganizerId().getId().equals(currUser.getId());
+            return isOrganizerOf(eventId, currUser);
 
         return false;
     }
@@ -110,33 +93,40 @@ public class PermissionsService {
      * COMPETITOR: can see their own inscriptions
      */
     public boolean canSeeInscriptions(Long eventId) {
-        User currUser = getCurrentUser();
-        Event event = eventRepo.findById(eventId).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
         if (isOrganizer())
-            return event != null && event.getOrganizerId().getId().equals(currUser.getId());
+            return isOrganizerOf(eventId, currUser);
 
         return false;
     }
 
+    /**
+     * Verifies if user can see inscriptions of an specified event and category
+     * ? Category inscriptions are visible to whoever can see the event ones
+     */
+    public boolean canSeeInscriptions(Long eventId, Long categoryId) {
+        return canSeeInscriptions(eventId);
+    }
+
     /**
      * Verifies if user can see inscriptions of a specified comepetitor
      * ADMIN: can see inscriptions of any competitor
      * COMPETITOR: can see their own inscriptions
      */
     public boolean canSeeCompetitorInscriptions(Long competitorId) {
-        User currUser = getCurrentUser();
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
         if (isCompetitor())
-            return competitorId.equals(currUser.getId());
+            return competitorId.equals(currUser.id());
 
         return false;
     }
@@ -147,19 +137,29 @@ public class PermissionsService {
      * COMPETITOR: can edit their own inscriptions
      */
     public boolean canEditInscription(Long inscriptionId) {
-        User currUser = getCurrentUser();
-        Inscription inscription = inscriptionRepo.findById(inscriptionId).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
         if (isCompetitor())
-            return inscription != null && inscription.getCompetitorId().getId().equals(currUser.getId());
+            return authContext.findInscription(inscriptionId)
+                .map(inscription -> inscription.getCompetitorId().getId().equals(currUser.id()))
+                .orElse(false);
 
         return false;
     }
 
+    /**
+     * Verifies if user can update a specified inscription
+     * ADMIN: can update any inscription
+     * COMPETITOR: can update their own inscriptions
+     */
+    public boolean canUpdateInscription(Long inscriptionId) {
+        return canEditInscription(inscriptionId);
+    }
+
     /**
      * Verifies if user can delete a specified inscription
      * ADMIN: can delete any inscription
@@ -175,15 +175,14 @@ public class PermissionsService {
      * ORGANIZER: can create/edit results for their events
      */
     public boolean canEditResults(Long eventId) {
-        User currUser = getCurrentUser();
-        Event event = eventRepo.findById(eventId).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
         if (isAdmin()) return true;
 
         if (isOrganizer())
-            return event != null && event.getOrganizerId().getId().equals(currUser.getId());
+            return isOrganizerOf(eventId, currUser);
 
         return false;
     }
@@ -194,19 +193,18 @@ public class PermissionsService {
      * ORGANIZER: can edit results of their events
      */
     public boolean canEditResult(Long resultId) {
-        User currUser = getCurrentUser();
-        Result result = resultRepo.findById(resultId).orElse(null);
-
-        if (result == null) return false;
-
-        Event event = eventRepo.findById(result.getEventId().getId()).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
+        if (authContext.findResult(resultId).isEmpty()) return false;
+
         if (isAdmin()) return true;
 
         if (isOrganizer())
-            return result != null && event.getOrganizerId().getId().equals(currUser.getId());
+            return authContext.findResult(resultId)
+                .map(result -> isOrganizerOf(result.getEventId().getId(), currUser))
+                .orElse(false);
 
         return false;
     }
@@ -216,11 +214,26 @@ public class PermissionsService {
      * (for endpoints that require being the organizer of the event)
      */
     public boolean isEventOrganizer(Long eventId) {
-        User currUser = getCurrentUser();
-        Event event = eventRepo.findById(eventId).orElse(null);
+        CurrentUser currUser = getCurrentUser();
 
         if (currUser == null) return false;
 
-        return event != null && event.getOrganizerId().getId().equals(currUser.getId());
+        return isOrganizerOf(eventId, currUser);
+    }
+
+    /**
+     * Verifies if current user has the given role
+     */
+    private boolean hasRole(String role) {
+        CurrentUser currUser = getCurrentUser();
+        return currUser != null && currUser.hasRole(role);
+    }
+
+    /**
+     * Verifies if the user organizes the event (false if the event does not exist)
+     */
+    private boolean isOrganizerOf(Long eventId, CurrentUser currUser) {
+        Optional<Event> event = authContext.findEvent(eventId);
+        return event.isPresent() && event.get().getOrganizerId().getId().equals(currUser.id());
     }
 }
\ No newline at end of file
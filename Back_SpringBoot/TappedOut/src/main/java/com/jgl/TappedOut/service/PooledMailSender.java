@@ -0,0 +1,212 @@
+package com.jgl.TappedOut.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends emails over a small pool of open, authenticated SMTP connections
+ * 
+ * ? JavaMailSender opens (and authenticates, with TLS) a new connection on every
+ * ? send call. Here every batch borrows an open connection, sends all its messages
+ * ? through it and gives it back, so the handshake is paid once per connection.
+ * ? The pool size bounds the concurrent connections to the mail server, and
+ * ? connections idle for too long are closed before the server drops them.
+ * ? Connections are opened with sendpartial, so a BCC batch with a rejected address
+ * ? is still delivered to the rest and counts as sent
+ * ! Needs the JavaMailSenderImpl configured by spring.mail.*, the application does not
+ * ! start with any other JavaMailSender
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class PooledMailSender {
+    @Autowired
+    private JavaMailSenderImpl mailSender;
+
+    @Value("${app.mail.pool.size:4}")
+    private int poolSize;
+
+    @Value("${app.mail.pool.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    private Semaphore permits;
+
+    private Session session;
+
+    private String protocol;
+
+    private final Deque<PooledTransport> idle = new ArrayDeque<>();
+
+    private record PooledTransport(Transport transport, long lastUsed) {}
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(poolSize, true);
+
+        // ? Own session with the properties of the configured one, the sender itself is left as is
+        Properties properties = new Properties();
+        properties.putAll(mailSender.getSession().getProperties());
+        // * Same fallback as JavaMailSenderImpl when spring.mail.protocol is not set
+        protocol = mailSender.getProtocol() != null ? mailSender.getProtocol()
+            : properties.getProperty("mail.transport.protocol", JavaMailSenderImpl.DEFAULT_PROTOCOL);
+        properties.setProperty("mail." + protocol + ".sendpartial", "true");
+        session = Session.getInstance(properties);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (idle) {
+            idle.forEach(pooled -> close(pooled.transport()));
+            idle.clear();
+        }
+    }
+
+    /**
+     * Sends a batch of messages through a single pooled connection
+     * 
+     * @param messages messages created by {@link JavaMailSender#createMimeMessage()}
+     * @return the failures by message index (empty if everything was sent, even if only to some recipients)
+     */
+    public Map<Integer, Exception> send(List<MimeMessage> messages) {
+        Map<Integer, Exception> failures = new LinkedHashMap<>();
+        if (messages.isEmpty()) return failures;
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (int i = 0; i < messages.size(); i++) failures.put(i, e);
+            return failures;
+        }
+
+        Transport transport = null;
+        int i = 0;
+        try {
+            transport = borrow();
+
+            for (; i < messages.size(); i++) {
+                MimeMessage message = messages.get(i);
+                try {
+                    if (message.getSentDate() == null) message.setSentDate(new Date());
+                    message.saveChanges();
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException e) {
+                    if (!partiallySent(e)) failures.put(i, e);
+
+                    // ! The server may have dropped the connection: open a new one for the rest
+                    if (!transport.isConnected()) {
+                        close(transport);
+                        transport = null;
+                        transport = connect();
+                    }
+                }
+            }
+        } catch (MessagingException e) {
+            // * Could not connect: every message not sent yet failed
+            log.error("Error connecting to the mail server\nError msg: {}", e.getMessage());
+            for (int j = i; j < messages.size(); j++) failures.putIfAbsent(j, e);
+        } finally {
+            giveBack(transport);
+            permits.release();
+        }
+
+        return failures;
+    }
+
+    /**
+     * Whether the server took the message for some of its recipients and rejected the others
+     * 
+     * ? Retrying it would send it again to the recipients that already got it
+     */
+    private static boolean partiallySent(MessagingException e) {
+        if (!(e instanceof SendFailedException failed)) return false;
+
+        Address[] sent = failed.getValidSentAddresses();
+        if (sent == null || sent.length == 0) return false;
+
+        log.warn("Email sent to {} recipients, rejected addresses: {}",
+            sent.length, Arrays.toString(failed.getInvalidAddresses()));
+        return true;
+    }
+
+    /**
+     * Takes an idle connection still usable, or opens a new one
+     */
+    private Transport borrow() throws MessagingException {
+        long now = System.nanoTime();
+
+        while (true) {
+            PooledTransport pooled;
+            synchronized (idle) {
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) return connect();
+
+            boolean expired = now - pooled.lastUsed() > TimeUnit.SECONDS.toNanos(maxIdleSeconds);
+            if (!expired && pooled.transport().isConnected()) return pooled.transport();
+
+            close(pooled.transport());
+        }
+    }
+
+    private void giveBack(Transport transport) {
+        if (transport == null) return;
+
+        if (!transport.isConnected()) {
+            close(transport);
+            return;
+        }
+
+        synchronized (idle) {
+            idle.addFirst(new PooledTransport(transport, System.nanoTime()));
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = session.getTransport(protocol);
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+
+        transport.connect(mailSender.getHost(), mailSender.getPort(),
+            username != null && !username.isBlank() ? username : null,
+            password != null && !password.isBlank() ? password : null);
+
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.jgl.TappedOut.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jgl.TappedOut.service.CustomUserDetailsService.CustomUserPrincipal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, TTL based cache of authenticated principals keyed by subject (email)
+ * 
+ * ? Avoids loading the user (and its type and gender) on every request authenticated
+ * ? by a token without ID/role claims. The least recently used entry is dropped when the
+ * ? cache is full, and entries expire after the TTL so changes made by another instance
+ * ? are eventually seen
+ * ! Only immutable ID/email/role principals are cached, never the User entity or its
+ * ! password hash: login reads the user from the database every time
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    // * Incremented on every explicit eviction, so a load racing with it is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private Map<String, Entry> entries;
+
+    private record Entry(CustomUserPrincipal principal, long expiresAt) {}
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean full = size() > maxSize;
+                if (full) evictions.increment();
+                return full;
+            }
+        };
+
+        FunctionCounter.builder("principal.cache.gets", hits, LongAdder::sum)
+            .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("principal.cache.gets", misses, LongAdder::sum)
+            .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("principal.cache.evictions", evictions, LongAdder::sum)
+            .register(meterRegistry);
+        Gauge.builder("principal.cache.size", this, PrincipalCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the principal of a subject, loading it on a miss
+     * 
+     * @param subject the subject (email)
+     * @param loader function that loads the principal from the database
+     * @return the principal
+     */
+    public CustomUserPrincipal get(String subject, Function<String, CustomUserPrincipal> loader) {
+        String key = normalize(subject);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits.increment();
+                return entry.principal();
+            }
+            if (entry != null) entries.remove(key);
+        }
+
+        misses.increment();
+        long loadingGeneration = generation.get();
+        CustomUserPrincipal principal = loader.apply(key);
+
+        synchronized (entries) {
+            if (generation.get() == loadingGeneration)
+                entries.put(key, new Entry(principal, now + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+
+        return principal;
+    }
+
+    /**
+     * Evicts a subject now and again once the current transaction commits
+     * 
+     * @param subject the subject (email)
+     */
+    public void evict(String subject) {
+        if (subject == null) return;
+
+        String key = normalize(subject);
+        remove(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(String key) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(key) != null) evictions.increment();
+        }
+        log.debug("Principal evicted from cache: {}", key);
+    }
+
+    private String normalize(String subject) {
+        return subject.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,351 @@
+package com.jgl.TappedOut.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.models.Gender;
+import com.jgl.TappedOut.models.Sport;
+import com.jgl.TappedOut.models.SportLevel;
+import com.jgl.TappedOut.models.UserType;
+import com.jgl.TappedOut.repositories.GenderRepository;
+import com.jgl.TappedOut.repositories.SportLevelRepository;
+import com.jgl.TappedOut.repositories.SportRepository;
+import com.jgl.TappedOut.repositories.UserTypeRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory near-cache for the reference tables ({@link Sport}, {@link Gender},
+ * {@link UserType} and {@link SportLevel})
+ * 
+ * ? Every table is loaded in bulk at startup and kept as an immutable snapshot.
+ * ? Write methods of the matching services invalidate it after their transaction
+ * ? commits, and a TTL bounds staleness when another instance changes the data
+ * * Callers always get copies (detached), so they can never modify the cached state
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+    @Autowired
+    private SportRepository sportRepo;
+
+    @Autowired
+    private GenderRepository genderRepo;
+
+    @Autowired
+    private UserTypeRepository userTypeRepo;
+
+    @Autowired
+    private SportLevelRepository sportLevelRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.cache.reference.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Region<Sport> sports;
+
+    private Region<Gender> genders;
+
+    private Region<UserType> userTypes;
+
+    private Region<SportLevel> sportLevels;
+
+    /**
+     * Statistics of one cached table
+     */
+    public record Stats(long hits, long misses, long loads, int size, long version) {}
+
+    @PostConstruct
+    void init() {
+        // ? Snapshots are always read in their own read-only transaction, so they never
+        // ? contain uncommitted data of the caller
+        TransactionTemplate loadTx = new TransactionTemplate(transactionManager);
+        loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTx.setReadOnly(true);
+
+        sports = new Region<>("sports", () -> loadTx.execute(tx -> sportRepo.findAll()),
+            Sport::getId, ReferenceDataCache::copy, sportRepo::findById);
+        genders = new Region<>("genders", () -> loadTx.execute(tx -> genderRepo.findAll()),
+            Gender::getId, ReferenceDataCache::copy, genderRepo::findById);
+        userTypes = new Region<>("user_types", () -> loadTx.execute(tx -> userTypeRepo.findAll()),
+            UserType::getId, ReferenceDataCache::copy, userTypeRepo::findById);
+        sportLevels = new Region<>("sport_levels", () -> loadTx.execute(tx -> sportLevelRepo.findAll()),
+            SportLevel::getId, ReferenceDataCache::copy, sportLevelRepo::findById);
+
+        List.of(sports, genders, userTypes, sportLevels).forEach(region -> region.bindMetrics(meterRegistry));
+    }
+
+    /**
+     * Loads every reference table once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            List.of(sports, genders, userTypes, sportLevels).forEach(Region::current);
+            log.info("Reference data cache loaded\n\tSports: {}, Genders: {}, UserTypes: {}, SportLevels: {}",
+                sports.size(), genders.size(), userTypes.size(), sportLevels.size());
+        } catch (Exception e) {
+            // * Not fatal: the tables will be loaded on first access
+            log.warn("Could not preload reference data cache: {}", e.getMessage());
+        }
+    }
+
+    // * Lookups
+
+    public Optional<Sport> findSport(Long id) {
+        return sports.find(id);
+    }
+
+    public List<Sport> findAllSports() {
+        return sports.findAll();
+    }
+
+    public Optional<Gender> findGender(Long id) {
+        return genders.find(id);
+    }
+
+    public List<Gender> findAllGenders() {
+        return genders.findAll();
+    }
+
+    public Optional<UserType> findUserType(Long id) {
+        return userTypes.find(id);
+    }
+
+    public List<UserType> findAllUserTypes() {
+        return userTypes.findAll();
+    }
+
+    public Optional<SportLevel> findSportLevel(Long id) {
+        return sportLevels.find(id);
+    }
+
+    public List<SportLevel> findAllSportLevels() {
+        return sportLevels.findAll();
+    }
+
+    // * Invalidation (applied after the current transaction commits)
+
+    /**
+     * Invalidates sports and sport levels (levels embed their sport)
+     */
+    public void invalidateSports() {
+        afterCommit(() -> {
+            sports.invalidate();
+            sportLevels.invalidate();
+        });
+    }
+
+    public void invalidateGenders() {
+        afterCommit(genders::invalidate);
+    }
+
+    public void invalidateUserTypes() {
+        afterCommit(userTypes::invalidate);
+    }
+
+    public void invalidateSportLevels() {
+        afterCommit(sportLevels::invalidate);
+    }
+
+    /**
+     * Retrieves hit/miss statistics of every cached table
+     * 
+     * @return Map of table name to Stats
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        List.of(sports, genders, userTypes, sportLevels).forEach(region -> stats.put(region.name, region.stats()));
+        return stats;
+    }
+
+    /**
+     * Runs the action after the current transaction commits (or right away if there is none)
+     * 
+     * @param action the action to run
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // * Copies
+
+    private static Sport copy(Sport sport) {
+        return new Sport(sport.getId(), sport.getName());
+    }
+
+    private static Gender copy(Gender gender) {
+        return new Gender(gender.getId(), gender.getName());
+    }
+
+    private static UserType copy(UserType userType) {
+        return new UserType(userType.getId(), userType.getName());
+    }
+
+    private static SportLevel copy(SportLevel level) {
+        return new SportLevel(level.getId(), level.getSportId() != null ? copy(level.getSportId()) : null, level.getName());
+    }
+
+    /**
+     * Immutable content of a table at a given version
+     */
+    private record Snapshot<T>(long version, Map<Long, T> byId, long loadedAt) {}
+
+    /**
+     * One cached table
+     */
+    private final class Region<T> {
+        private final String name;
+
+        private final Supplier<List<T>> loader;
+
+        private final Function<T, Long> idOf;
+
+        private final UnaryOperator<T> copier;
+
+        private final Function<Long, Optional<T>> directLookup;
+
+        private final AtomicLong version = new AtomicLong();
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder loads = new LongAdder();
+
+        private volatile Snapshot<T> snapshot;
+
+        Region(String name, Supplier<List<T>> loader, Function<T, Long> idOf, UnaryOperator<T> copier,
+                Function<Long, Optional<T>> directLookup) {
+            this.name = name;
+            this.loader = loader;
+            this.idOf = idOf;
+            this.copier = copier;
+            this.directLookup = directLookup;
+        }
+
+        Optional<T> find(Long id) {
+            if (id == null) return Optional.empty();
+
+            T cached = current().byId().get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(copier.apply(cached));
+            }
+
+            misses.increment();
+            // ? Unknown ID: it may have been created by another instance, so ask the database
+            // ? and refresh the snapshot on next access if it exists
+            Optional<T> found = directLookup.apply(id);
+            if (found.isPresent()) invalidate();
+
+            // * Copied as the cached ones, callers may modify what they get
+            return found.map(copier);
+        }
+
+        // ? Not counted as a hit, the hit ratio only measures lookups by ID
+        List<T> findAll() {
+            List<T> all = new ArrayList<>();
+            current().byId().values().forEach(value -> all.add(copier.apply(value)));
+            return all;
+        }
+
+        Snapshot<T> current() {
+            Snapshot<T> current = snapshot;
+            if (current != null && !isExpired(current)) return current;
+
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || isExpired(current)) current = reload();
+            }
+
+            return current;
+        }
+
+        void invalidate() {
+            version.incrementAndGet();
+            snapshot = null;
+            log.debug("Reference data cache invalidated\n\tTable: {}", name);
+        }
+
+        int size() {
+            Snapshot<T> current = snapshot;
+            return current != null ? current.byId().size() : 0;
+        }
+
+        Stats stats() {
+            return new Stats(hits.sum(), misses.sum(), loads.sum(), size(), version.get());
+        }
+
+        void bindMetrics(MeterRegistry registry) {
+            FunctionCounter.builder("reference.cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(registry);
+            FunctionCounter.builder("reference.cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(registry);
+            FunctionCounter.builder("reference.cache.loads", loads, LongAdder::sum)
+                .tag("cache", name).register(registry);
+            Gauge.builder("reference.cache.size", this, Region::size)
+                .tag("cache", name).register(registry);
+        }
+
+        private Snapshot<T> reload() {
+            long loadingVersion = version.get();
+            Map<Long, T> byId = new LinkedHashMap<>();
+            loader.get().forEach(value -> byId.put(idOf.apply(value), copier.apply(value)));
+            loads.increment();
+
+            Snapshot<T> loaded = new Snapshot<>(loadingVersion, Collections.unmodifiableMap(byId), System.nanoTime());
+            // * Only published if nothing was invalidated while loading
+            if (version.get() == loadingVersion) snapshot = loaded;
+
+            return loaded;
+        }
+
+        private boolean isExpired(Snapshot<T> current) {
+            return System.nanoTime() - current.loadedAt() > TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
+}
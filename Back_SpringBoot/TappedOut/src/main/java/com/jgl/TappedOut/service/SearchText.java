@@ -0,0 +1,74 @@
+package com.jgl.TappedOut.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization shared by the in-memory search indexes
+ *
+ * ? Folding removes accents and case ("Campeonato de España" -> "campeonato de espana"),
+ * ? so a search typed without accents still matches the Spanish text
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public final class SearchText {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // * Too common to tell documents apart, never indexed
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "al", "de", "del", "el", "en", "la", "las", "lo", "los", "y", "un", "una",
+        "and", "in", "of", "the");
+
+    private SearchText() {}
+
+    /**
+     * Folds a text to lower case without accents
+     *
+     * @param text the text (may be null)
+     * @return the folded text, empty if null
+     */
+    public static String fold(String text) {
+        if (text == null) return "";
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a text into folded terms, skipping stop words
+     *
+     * @param text the text (may be null)
+     * @return the terms in order of appearance (with repetitions)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : words(text)) {
+            if (!STOP_WORDS.contains(term)) terms.add(term);
+        }
+        return terms;
+    }
+
+    /**
+     * Splits a text into folded words, keeping stop words
+     *
+     * ? Used for names, where "de" or "la" may be the start of a word being typed
+     *
+     * @param text the text (may be null)
+     * @return the words in order of appearance (with repetitions)
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATORS.split(fold(text))) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+}
@@ -39,6 +39,9 @@ public class SportLevelServiceImpl implements SportLevelService {
     @Autowired
     private SportLevelRepository sportLevelRepo;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Autowired
     private SportLevelMapper sportLevelMapper;
 
@@ -56,7 +59,7 @@ public class SportLevelServiceImpl implements SportLevelService {
     public List<SportLevelResponseDTO> getAllSportLevels() {
         log.debug("Fetching all SportLevel");
 
-        return sportLevelRepo.findAll()
+        return referenceDataCache.findAllSportLevels()
             .stream()
             .map(sportLevelMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -139,6 +142,7 @@ public class SportLevelServiceImpl implements SportLevelService {
         try {
             SportLevel sportLevel = sportLevelMapper.fromCreateDTO(dto);
             sportLevel = sportLevelRepo.save(sportLevel);
+            referenceDataCache.invalidateSportLevels();
             log.info("Successfully created SportLevel with ID: {} for Sport ID: {}", sportLevel.getId(), dto.getSportId());
             return sportLevelMapper.toResponseDTO(sportLevel);
         } catch (Exception e) {
@@ -173,6 +177,7 @@ public class SportLevelServiceImpl implements SportLevelService {
         try {
             sportLevelMapper.updateFromDTO(dto, sportLevel);
             SportLevel updatedSportLevel = sportLevelRepo.save(sportLevel);
+            referenceDataCache.invalidateSportLevels();
             log.info("Successfully updated SportLevel with ID: {}", id);
             return sportLevelMapper.toResponseDTO(updatedSportLevel);
         } catch (Exception e) {
@@ -197,6 +202,7 @@ public class SportLevelServiceImpl implements SportLevelService {
 
         try {
             sportLevelRepo.deleteById(id);
+            referenceDataCache.invalidateSportLevels();
             log.info("Successfully deleted SportLevel with ID: {}", id); 
         } catch (Exception e) {
             log.error("Error deleting SportLevel with ID: {} - {}", id, e.getMessage(), e);
@@ -214,7 +220,7 @@ public class SportLevelServiceImpl implements SportLevelService {
      * @throws EntityNotFoundException if sport level not found
      */
     public SportLevel findSportLevelByIdOrThrow(Long id) {
-        return sportLevelRepo.findById(id)
+        return referenceDataCache.findSportLevel(id)
             .orElseThrow(() -> {
                 log.error("SportLevel with ID: {} not found", id);
                 throw new EntityNotFoundException("SportLevel not found");
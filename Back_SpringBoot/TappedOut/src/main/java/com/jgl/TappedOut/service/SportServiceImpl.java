@@ -37,6 +37,12 @@ public class SportServiceImpl implements SportService {
     @Autowired
     private SportRepository sportRepo;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
     @Autowired
     private SportMapper sportMapper;
 
@@ -51,7 +57,7 @@ public class SportServiceImpl implements SportService {
     public List<SportResponseDTO> getAllSports() {
         log.debug("Fetching all Sport");
 
-        return sportRepo.findAll()
+        return referenceDataCache.findAllSports()
             .stream()
             .map(sportMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -109,6 +115,7 @@ public class SportServiceImpl implements SportService {
         try {
             Sport sport = sportMapper.fromCreateDTO(dto);
             sport = sportRepo.save(sport);
+            referenceDataCache.invalidateSports();
             log.info("Successfully created Sport with ID: {}", sport.getId());
             return sportMapper.toResponseDTO(sport);
         } catch(Exception e) {
@@ -141,6 +148,8 @@ public class SportServiceImpl implements SportService {
         try {
             sportMapper.updateFromDTO(dto, sport);
             Sport updated = sportRepo.save(sport);
+            referenceDataCache.invalidateSports();
+            eventSearchIndex.refreshSport(id);
             log.info("Successfully updated Sport with ID: {}", id);
             return sportMapper.toResponseDTO(updated);
         } catch(Exception e) {
@@ -165,6 +174,9 @@ public class SportServiceImpl implements SportService {
 
         try {
             sportRepo.deleteById(id);
+            referenceDataCache.invalidateSports();
+            // * Its events are deleted in cascade
+            eventSearchIndex.refreshSport(id);
             log.info("Successfully deleted Sport with ID: {}", id);
         } catch(Exception e) {
             log.error("Error deleting Sport with ID: {} - {}", id, e.getMessage(), e);
@@ -180,7 +192,7 @@ public class SportServiceImpl implements SportService {
      * @throws EntityNotFoundException if sport not found
      */
     public Sport findSportByIdOrThrow(Long id) {
-        return sportRepo.findById(id)
+        return referenceDataCache.findSport(id)
             .orElseThrow(() -> {
                 log.error("Sport with ID: {} not found", id);
                 throw new EntityNotFoundException("Sport not found");
@@ -0,0 +1,58 @@
+package com.jgl.TappedOut.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe token bucket rate limiter
+ * 
+ * ? Holds up to "capacity" tokens, refilled at "permitsPerSecond".
+ * ? acquire() blocks the calling thread until a token is available
+ * 
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+public class TokenBucket {
+    private final double capacity;
+
+    private final double tokensPerNano;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0 || capacity < 1)
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token, waiting for it if the bucket is empty
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            // * A negative balance is a reservation: wait until it is paid back
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+        }
+
+        if (waitNanos > 0)
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
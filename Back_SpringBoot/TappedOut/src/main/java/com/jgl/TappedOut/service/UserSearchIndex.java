@@ -0,0 +1,472 @@
+package com.jgl.TappedOut.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.dto.UserSearchView;
+import com.jgl.TappedOut.repositories.UserRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index used to autocomplete users by name or email
+ *
+ * ? Every word of the first name, last name and email is kept in a sorted map, so the
+ * ? users having a word starting with the typed text are one range of it. Words of three
+ * ? letters or more are also looked up by their trigrams ("arci" finds "Garcia"), every
+ * ? candidate is then checked and ranked:
+ * ?    - a name word equal to the typed word
+ * ?    - a name word starting with it
+ * ?    - the email or one of its words starting with it
+ * ?    - the name or email containing it
+ * ? Only the best users are kept (bounded heap), the caller loads just those rows
+ * * Built when the application is ready, updated after every committed user write
+ * * and rebuilt on schedule, so changes made by another instance are picked up
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@Slf4j
+public class UserSearchIndex {
+    private static final double EXACT_NAME_SCORE = 4;
+
+    private static final double NAME_PREFIX_SCORE = 3;
+
+    private static final double EMAIL_PREFIX_SCORE = 2;
+
+    private static final double CONTAINS_SCORE = 1;
+
+    private static final int GRAM = 3;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate loadTx;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Object rebuildLock = new Object();
+
+    // ? Fields below are guarded by lock
+    private Index index = new Index();
+
+    private volatile boolean built;
+
+    private boolean rebuilding;
+
+    // * Users written while a rebuild was loading (null if deleted), applied again once it finishes
+    private final Map<Long, UserSearchView> pending = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        loadTx = new TransactionTemplate(transactionManager);
+        loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTx.setReadOnly(true);
+
+        Gauge.builder("user.search.index.documents", this, UserSearchIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * Builds the index once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // * Not fatal: the index will be built on first search
+            log.warn("Could not build user search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from the database
+     *
+     * ? Searches keep being answered by the previous index while the users are loaded
+     */
+    @Scheduled(
+        fixedDelayString = "${app.search.users.rebuild-ms:600000}",
+        initialDelayString = "${app.search.users.rebuild-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+                pending.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long start = System.nanoTime();
+            try {
+                Index fresh = new Index();
+                loadTx.execute(tx -> userRepo.findAllSearchViews()).forEach(fresh::add);
+
+                lock.writeLock().lock();
+                try {
+                    index = fresh;
+                    built = true;
+                    pending.forEach(this::replace);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                log.info("User search index built\n\tUsers: {}, Time: {} ms",
+                    size(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuilding = false;
+                    pending.clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the users best matching a text typed by the user
+     *
+     * @param query search terms (every word must match)
+     * @param limit max number of users
+     * @return IDs of the matching users, best match first (empty if the query has no words)
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> words = new ArrayList<>(new LinkedHashSet<>(SearchText.words(query)));
+        if (words.isEmpty()) return List.of();
+
+        if (!built) buildIfNeeded();
+
+        lock.readLock().lock();
+        try {
+            return index.search(words, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // * Incremental updates (applied after the current transaction commits)
+
+    /**
+     * Indexes a created or updated user with its saved values
+     *
+     * @param id User ID
+     * @param firstName first name
+     * @param lastName last name
+     * @param email email
+     */
+    public void put(Long id, String firstName, String lastName, String email) {
+        UserSearchView view = new UserSearchView(id, firstName, lastName, email);
+        afterCommit(() -> apply(id, view));
+    }
+
+    /**
+     * Removes a deleted user
+     *
+     * @param id User ID
+     */
+    public void remove(Long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void buildIfNeeded() {
+        synchronized (rebuildLock) {
+            if (!built) rebuild();
+        }
+    }
+
+    /**
+     * Applies a write, or queues it if a rebuild is loading
+     *
+     * @param id User ID
+     * @param view the indexed columns (null if deleted)
+     */
+    private void apply(Long id, UserSearchView view) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pending.put(id, view);
+            } else if (built) {
+                replace(id, view);
+            }
+            // ? Not built yet: the first build reads the committed rows anyway
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces a user with its current values (write lock held)
+     */
+    private void replace(Long id, UserSearchView view) {
+        index.remove(id);
+        if (view != null) index.add(view);
+    }
+
+    /**
+     * Runs the action after the current transaction commits (or right away if there is none)
+     *
+     * @param action the action to run
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * An indexed user: its ordinal in the bitmaps, its folded words and trigrams
+     */
+    private record Document(int ordinal, Long id, List<String> nameWords, List<String> emailWords, Set<String> grams) {}
+
+    /**
+     * Users matching a typed word, by kind of match
+     *
+     * ? Contained only narrows down by trigrams, those users are checked one by one
+     */
+    private record Match(String word, RoaringBitmap exact, RoaringBitmap namePrefix,
+        RoaringBitmap emailPrefix, RoaringBitmap contained) {}
+
+    /**
+     * A matching user (by ordinal) and its relevance
+     */
+    private record Hit(int ordinal, double score) {}
+
+    /**
+     * Words, trigrams and documents (not thread safe, guarded by the outer lock)
+     *
+     * ? Users are scored through the bitmaps and the name lengths, only the users
+     * ? checked by trigrams and the final ones are read from their documents
+     */
+    private static final class Index {
+        // ? Sorted by word, so the words starting with a prefix are one contiguous range
+        private final TreeMap<String, RoaringBitmap> nameWords = new TreeMap<>();
+
+        private final TreeMap<String, RoaringBitmap> emailWords = new TreeMap<>();
+
+        private final Map<String, RoaringBitmap> grams = new HashMap<>();
+
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        // * Documents by ordinal, ordinals of removed users stay empty until the next rebuild
+        private final List<Document> byOrdinal = new ArrayList<>();
+
+        // * Length of the full name by ordinal, shorter names rank first on equal score
+        private int[] nameLengths = new int[1024];
+
+        void add(UserSearchView view) {
+            String name = SearchText.fold(join(view.firstName(), view.lastName())).trim();
+            List<String> names = SearchText.words(name).stream().distinct().toList();
+            List<String> emails = SearchText.words(view.email()).stream().distinct().toList();
+
+            Set<String> documentGrams = new HashSet<>();
+            names.forEach(word -> addGrams(documentGrams, word));
+            emails.forEach(word -> addGrams(documentGrams, word));
+
+            Document document = new Document(byOrdinal.size(), view.id(), names, emails, documentGrams);
+            documents.put(view.id(), document);
+            byOrdinal.add(document);
+
+            if (document.ordinal() == nameLengths.length) nameLengths = Arrays.copyOf(nameLengths, nameLengths.length * 2);
+            nameLengths[document.ordinal()] = name.length();
+
+            names.forEach(word -> nameWords.computeIfAbsent(word, w -> new RoaringBitmap()).add(document.ordinal()));
+            emails.forEach(word -> emailWords.computeIfAbsent(word, w -> new RoaringBitmap()).add(document.ordinal()));
+            documentGrams.forEach(gram -> grams.computeIfAbsent(gram, g -> new RoaringBitmap()).add(document.ordinal()));
+        }
+
+        void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) return;
+
+            byOrdinal.set(document.ordinal(), null);
+            document.nameWords().forEach(word -> removeFrom(nameWords, word, document.ordinal()));
+            document.emailWords().forEach(word -> removeFrom(emailWords, word, document.ordinal()));
+            document.grams().forEach(gram -> removeFrom(grams, gram, document.ordinal()));
+        }
+
+        List<Long> search(List<String> queryWords, int limit) {
+            List<Match> matches = new ArrayList<>();
+            RoaringBitmap candidates = null;
+            for (String word : queryWords) {
+                Match match = match(word);
+                RoaringBitmap any = RoaringBitmap.or(match.namePrefix(), match.emailPrefix());
+                any.or(match.contained());
+
+                if (candidates == null) candidates = any;
+                else candidates.and(any);
+                if (candidates.isEmpty()) return List.of();
+
+                matches.add(match);
+            }
+
+            Comparator<Hit> byRelevance = byRelevance();
+            PriorityQueue<Hit> best = new PriorityQueue<>(
+                Math.min(limit, candidates.getCardinality()) + 1, byRelevance.reversed());
+            candidates.forEach((int ordinal) -> {
+                // ? Scored as if every trigram candidate matched, checked only if it would be kept
+                Hit hit = new Hit(ordinal, score(ordinal, matches));
+                boolean full = best.size() == limit;
+                if (full && byRelevance.compare(hit, best.peek()) >= 0) return;
+                if (!containsAll(ordinal, matches)) return;
+
+                if (full) best.poll();
+                best.add(hit);
+            });
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(byRelevance);
+            return hits.stream().map(hit -> byOrdinal.get(hit.ordinal()).id()).toList();
+        }
+
+        /**
+         * Best score first, then shorter names (closer to what was typed), then oldest users
+         */
+        private Comparator<Hit> byRelevance() {
+            return (a, b) -> {
+                int byScore = Double.compare(b.score(), a.score());
+                if (byScore != 0) return byScore;
+
+                int byLength = Integer.compare(nameLengths[a.ordinal()], nameLengths[b.ordinal()]);
+                return byLength != 0 ? byLength : Integer.compare(a.ordinal(), b.ordinal());
+            };
+        }
+
+        /**
+         * Looks up the users matching a typed word
+         */
+        private Match match(String word) {
+            RoaringBitmap exact = nameWords.getOrDefault(word, new RoaringBitmap());
+            RoaringBitmap namePrefix = or(nameWords.subMap(word, true, word + Character.MAX_VALUE, false).values());
+            RoaringBitmap emailPrefix = or(emailWords.subMap(word, true, word + Character.MAX_VALUE, false).values());
+
+            RoaringBitmap contained = new RoaringBitmap();
+            if (word.length() >= GRAM) {
+                Set<String> wordGrams = new HashSet<>();
+                addGrams(wordGrams, word);
+
+                List<RoaringBitmap> containing = new ArrayList<>();
+                for (String gram : wordGrams) {
+                    RoaringBitmap users = grams.get(gram);
+                    if (users == null) break;
+                    containing.add(users);
+                }
+                if (containing.size() == wordGrams.size()) {
+                    contained = FastAggregation.and(containing.iterator());
+                    contained.andNot(namePrefix);
+                    contained.andNot(emailPrefix);
+                }
+            }
+
+            return new Match(word, exact, namePrefix, emailPrefix, contained);
+        }
+
+        /**
+         * Adds up the best match of every typed word
+         */
+        private static double score(int ordinal, List<Match> matches) {
+            double total = 0;
+            for (Match match : matches) {
+                if (match.exact().contains(ordinal)) total += EXACT_NAME_SCORE;
+                else if (match.namePrefix().contains(ordinal)) total += NAME_PREFIX_SCORE;
+                else if (match.emailPrefix().contains(ordinal)) total += EMAIL_PREFIX_SCORE;
+                else total += CONTAINS_SCORE;
+            }
+            return total;
+        }
+
+        /**
+         * Checks the words only found by trigrams are really part of a word of the user
+         */
+        private boolean containsAll(int ordinal, List<Match> matches) {
+            for (Match match : matches) {
+                if (!match.contained().contains(ordinal)) continue;
+
+                Document document = byOrdinal.get(ordinal);
+                if (!contains(document.nameWords(), match.word()) && !contains(document.emailWords(), match.word()))
+                    return false;
+            }
+            return true;
+        }
+
+        private static boolean contains(List<String> words, String word) {
+            for (String each : words) {
+                if (each.contains(word)) return true;
+            }
+            return false;
+        }
+
+        private static RoaringBitmap or(Collection<RoaringBitmap> bitmaps) {
+            if (bitmaps.isEmpty()) return new RoaringBitmap();
+            return FastAggregation.or(bitmaps.iterator());
+        }
+
+        private static void addGrams(Set<String> target, String word) {
+            for (int i = 0; i + GRAM <= word.length(); i++) target.add(word.substring(i, i + GRAM));
+        }
+
+        private static void removeFrom(Map<String, RoaringBitmap> index, String key, int ordinal) {
+            RoaringBitmap users = index.get(key);
+            if (users == null) return;
+
+            users.remove(ordinal);
+            if (users.isEmpty()) index.remove(key);
+        }
+
+        private static String join(String firstName, String lastName) {
+            return (firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "");
+        }
+    }
+}
@@ -19,7 +19,7 @@ public interface UserService {
     List<UserResponseDTO> getUsersByType(Long typeId);
     List<UserResponseDTO> getUsersByGender(Long genderId);
     List<UserResponseDTO> getUsersByLocation(String country, String city);
-    List<UserResponseDTO> searchUsers(String query);
+    List<UserResponseDTO> searchUsers(String query, Integer size);
     UserResponseDTO getUserById(Long id);
     UserResponseDTO getUserByDni(String dni);
     UserResponseDTO getUserByEmail(String email);
@@ -1,6 +1,8 @@
 package com.jgl.TappedOut.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,7 @@ import com.jgl.TappedOut.dto.UserCreateDTO;
 import com.jgl.TappedOut.dto.UserResponseDTO;
 import com.jgl.TappedOut.dto.UserSecurityDTO;
 import com.jgl.TappedOut.dto.UserUpdateDTO;
+import com.jgl.TappedOut.dto.UserView;
 import com.jgl.TappedOut.mapper.UserMapper;
 import com.jgl.TappedOut.models.Gender;
 import com.jgl.TappedOut.models.User;
@@ -50,6 +53,18 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private GenderServiceImpl genderService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private PageSizes pageSizes;
+
 
     /**
      * Retrieves all users
@@ -61,7 +76,7 @@ public class UserServiceImpl implements UserService {
     public List<UserResponseDTO> getAllUsers() {
         log.debug("Fetching all User");
 
-        return userRepo.findAll().stream()
+        return userRepo.findAllViews().stream()
             .map(userMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
@@ -80,7 +95,7 @@ public class UserServiceImpl implements UserService {
 
         UserType userType = userTypeService.findUserTypeByIdOrThrow(typeId);
 
-        return userRepo.findByTypeId(userType)
+        return userRepo.findViewsByTypeId(userType)
             .stream()
             .map(userMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -100,7 +115,7 @@ public class UserServiceImpl implements UserService {
 
         Gender gender = genderService.findGenderByIdOrThrow(genderId);
         
-        return userRepo.findByGenderId(gender)
+        return userRepo.findViewsByGenderId(gender)
             .stream()
             .map(userMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -118,7 +133,7 @@ public class UserServiceImpl implements UserService {
     public List<UserResponseDTO> getUsersByLocation(String country, String city) {
         log.debug("Fetching User\n\tLocation -\n\t\tCountry: {}, City: {}", country, city);
 
-        return userRepo.findByCountryAndCity(country.trim(), city.trim())
+        return userRepo.findViewsByCountryAndCity(country.trim(), city.trim())
             .stream()
             .map(userMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -127,15 +142,28 @@ public class UserServiceImpl implements UserService {
     /**
      * Searches users by name or email
      * 
-     * @param query Search term
-     * @return List of UserResponseDTO matching the query
+     * ? Answered by {@link UserSearchIndex}, only the best matches are loaded
+     * 
+     * @param query Search term (every word must start or be part of the name or email)
+     * @param size max number of users (optional)
+     * @return List of UserResponseDTO matching the query, best match first
+     * @throws IllegalArgumentException if size is not positive
      */
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponseDTO> searchUsers(String query) {
-        log.debug("Searching User\n\tQuery: {}", query);
+    public List<UserResponseDTO> searchUsers(String query, Integer size) {
+        log.debug("Searching User\n\tQuery: {}\n\tSize: {}", query, size);
+
+        List<Long> ids = userSearchIndex.search(query, pageSizes.resolve(size));
+        if (ids.isEmpty()) return List.of();
 
-        return userRepo.searchUsers(query.trim()).stream()
+        Map<Long, UserView> views = userRepo.findViewsByIdIn(ids).stream()
+            .collect(Collectors.toMap(UserView::id, view -> view));
+
+        // ? Kept in the order of the index, users deleted meanwhile are skipped
+        return ids.stream()
+            .map(views::get)
+            .filter(Objects::nonNull)
             .map(userMapper::toResponseDTO)
             .collect(Collectors.toList());
     }
@@ -214,6 +242,7 @@ public class UserServiceImpl implements UserService {
         try {
             User user = userMapper.fromCreateDTO(dto);
             user = userRepo.save(user);
+            userSearchIndex.put(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
             log.info("Successfully created new User with ID: {}", user.getId());
 
             emailService.sendWelcomeEmail(normalizedEmail, (dto.getFirstName() + " " + dto.getLastName()));
@@ -244,6 +273,9 @@ public class UserServiceImpl implements UserService {
         try {
             userMapper.updateFromDTO(dto, user);
             User updatedUser = userRepo.save(user);
+            principalCache.evict(updatedUser.getEmail());
+            eventSearchIndex.refreshOrganizer(id);
+            userSearchIndex.put(id, updatedUser.getFirstName(), updatedUser.getLastName(), updatedUser.getEmail());
             log.info("Successfully updated User with ID: {}", id);
             return userMapper.toResponseDTO(updatedUser);
         } catch (Exception e) {
@@ -272,9 +304,15 @@ public class UserServiceImpl implements UserService {
         if (!user.getEmail().equalsIgnoreCase(newEmail))
             validateUserEmailNotExists(newEmail);
 
+        String oldEmail = user.getEmail();
+
         try {
             userMapper.updateSecurity(dto, user);
             User updatedUser = userRepo.save(user);
+            principalCache.evict(oldEmail);
+            principalCache.evict(updatedUser.getEmail());
+            eventSearchIndex.refreshOrganizer(id);
+            userSearchIndex.put(id, updatedUser.getFirstName(), updatedUser.getLastName(), updatedUser.getEmail());
             log.info("Successfully updated authentication info for User with ID: {}", id);
             return userMapper.toResponseDTO(updatedUser);
         } catch (Exception e) {
@@ -295,10 +333,14 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long id) {
         log.info("Deleting user with ID: {}", id);
 
-        findUserByIdOrThrow(id);
+        User user = findUserByIdOrThrow(id);
 
         try {
             userRepo.deleteById(id);
+            principalCache.evict(user.getEmail());
+            // * Their events are deleted in cascade
+            eventSearchIndex.refreshOrganizer(id);
+            userSearchIndex.remove(id);
             log.info("Successfully deleted User with ID: {}", id);
         } catch (Exception e) {
             log.error("Error deleting User with ID: {} - {}", id, e.getMessage(), e);
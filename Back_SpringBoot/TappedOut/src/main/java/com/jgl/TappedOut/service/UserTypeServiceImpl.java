@@ -37,6 +37,9 @@ public class UserTypeServiceImpl implements UserTypeService {
     @Autowired
     private UserTypeRepository userTypeRepo;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Autowired
     private UserTypeMapper userTypeMapper;
 
@@ -51,7 +54,7 @@ public class UserTypeServiceImpl implements UserTypeService {
     public List<UserTypeResponseDTO> getAllUserTypes() {
         log.debug("Fetching all UserType");
 
-        return userTypeRepo.findAll()
+        return referenceDataCache.findAllUserTypes()
             .stream()
             .map(userTypeMapper::toResponseDTO)
             .collect(Collectors.toList());
@@ -109,6 +112,7 @@ public class UserTypeServiceImpl implements UserTypeService {
         try {
             UserType userType = userTypeMapper.fromCreateDTO(dto);
             userType = userTypeRepo.save(userType);
+            referenceDataCache.invalidateUserTypes();
             log.info("Successfully created UserType with ID: {}", userType.getId());
             return userTypeMapper.toResponseDTO(userType);
         } catch (Exception e) {
@@ -141,6 +145,7 @@ public class UserTypeServiceImpl implements UserTypeService {
         try {
             userTypeMapper.updateFromDTO(dto, userType);
             UserType updated = userTypeRepo.save(userType);
+            referenceDataCache.invalidateUserTypes();
             log.info("Successfully updated UserType with ID: {}", id);
             return userTypeMapper.toResponseDTO(updated);
         } catch (Exception e) {
@@ -164,6 +169,7 @@ public class UserTypeServiceImpl implements UserTypeService {
 
         try {
             userTypeRepo.deleteById(id);
+            referenceDataCache.invalidateUserTypes();
             log.info("Successfully deleted UserType with ID: {}", id); 
         } catch (Exception e) {
             log.error("Error deleting UserType with ID: {} - {}", id, e.getMessage(), e);
@@ -179,7 +185,7 @@ public class UserTypeServiceImpl implements UserTypeService {
      * @throws EntityNotFoundException if user type not found
      */
     public UserType findUserTypeByIdOrThrow(Long id) {
-        return userTypeRepo.findById(id)
+        return referenceDataCache.findUserType(id)
             .orElseThrow(() -> {
                 log.error("UserType with ID: {} not found", id);
                 throw new EntityNotFoundException("UserType not found");
@@ -0,0 +1,49 @@
+-- Tablas añadidas después de la estructura inicial (envío de emails, recordatorios y tareas programadas)
+-- IF NOT EXISTS: las BBDD creadas con una versión de 01_TappedOut-Structure.sql que ya las incluía no fallan
+
+-- Tabla de EMAILS PENDIENTES (outbox)
+CREATE TABLE IF NOT EXISTS email_outbox (
+	id BIGINT AUTO_INCREMENT PRIMARY KEY,
+	recipient VARCHAR(255) NOT NULL,
+	bcc TEXT,
+	subject VARCHAR(255) NOT NULL,
+	body MEDIUMTEXT NOT NULL,
+	status ENUM('PENDING', 'SENDING', 'SENT', 'DEAD') NOT NULL DEFAULT 'PENDING',
+	attempts INT NOT NULL DEFAULT 0,
+	next_attempt_at DATETIME NOT NULL,
+	last_error VARCHAR(1000),
+	created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	sent_at DATETIME,
+	
+	INDEX idx_email_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB;
+
+-- Tabla de RECORDATORIOS ENVIADOS (evita enviar dos veces el mismo recordatorio)
+CREATE TABLE IF NOT EXISTS event_reminders (
+	id BIGINT AUTO_INCREMENT PRIMARY KEY,
+	event_id BIGINT NOT NULL,
+	user_id BIGINT NOT NULL,
+	sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	
+	FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE,
+	FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+	
+	CONSTRAINT uk_event_reminders_event_user UNIQUE (event_id, user_id)
+) ENGINE=InnoDB;
+
+-- Tabla de BLOQUEOS DE TAREAS PROGRAMADAS (una sola instancia ejecuta cada tarea)
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+	name VARCHAR(100) PRIMARY KEY,
+	locked_until DATETIME(3) NOT NULL,
+	locked_at DATETIME(3) NOT NULL,
+	locked_by VARCHAR(255) NOT NULL
+) ENGINE=InnoDB;
+
+-- Tabla de NOTIFICACIONES DE ACTUALIZACIÓN PENDIENTES (una por evento, agrupa cambios seguidos)
+CREATE TABLE IF NOT EXISTS pending_event_notifications (
+	event_id BIGINT PRIMARY KEY,
+	due_at DATETIME(3) NOT NULL,
+	max_due_at DATETIME(3) NOT NULL,
+	
+	FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
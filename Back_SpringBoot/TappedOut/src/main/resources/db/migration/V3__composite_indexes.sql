@@ -0,0 +1,36 @@
+-- Índices compuestos derivados de las consultas de los repositorios
+-- Las columnas de igualdad van primero y la de orden / rango al final
+
+-- EVENTOS
+-- Paginación por cursor (start_date, id): listado, próximos, pasados y recordatorios
+CREATE INDEX idx_events_start_id ON events (start_date, id);
+-- Paginación por deporte y por estado
+CREATE INDEX idx_events_sport_start ON events (sport_id, start_date, id);
+CREATE INDEX idx_events_status_start ON events (status, start_date, id);
+-- Búsqueda por ubicación
+CREATE INDEX idx_events_country_city ON events (country, city);
+
+-- INSCRIPCIONES
+-- Pagadas por evento (listado y recuento) y destinatarios de un evento
+CREATE INDEX idx_inscriptions_event_status ON inscriptions (event_id, payment_status);
+-- Inscripciones de una categoría del evento
+CREATE INDEX idx_inscriptions_event_category ON inscriptions (event_id, category_id);
+-- Comprobación de inscripción duplicada e inscripciones de un competidor
+CREATE INDEX idx_inscriptions_competitor_event_category ON inscriptions (competitor_id, event_id, category_id);
+
+-- RESULTADOS
+-- Resultados de un competidor (en un evento)
+CREATE INDEX idx_results_competitor_event ON results (competitor_id, event_id);
+-- Posición en un evento (los UNIQUE cubren evento + categoría)
+CREATE INDEX idx_results_event_position ON results (event_id, position);
+
+-- USUARIOS
+CREATE INDEX idx_users_country_city ON users (country, city);
+
+-- CATEGORÍAS
+-- Búsqueda por deporte + género (+ nivel) y por deporte + nombre
+CREATE INDEX idx_categories_sport_gender_level ON categories (sport_id, gender_id, level_id);
+CREATE INDEX idx_categories_sport_name ON categories (sport_id, name);
+
+-- NOTIFICACIONES DE ACTUALIZACIÓN PENDIENTES
+CREATE INDEX idx_pending_event_notifications_due ON pending_event_notifications (due_at);
@@ -0,0 +1,100 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jgl.TappedOut.repositories.SchedulerLockRepository;
+import com.jgl.TappedOut.service.ClusterLockService;
+import com.jgl.TappedOut.service.ClusterLockService.Lease;
+
+/**
+ * Leases of {@link ClusterLockService} taken by two nodes sharing the embedded database
+ *
+ * ? The other node is a second instance of the service, with its own owner ID.
+ * ? Every test uses its own job name
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClusterLockServiceTests {
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    @Autowired
+    private ClusterLockService node;
+
+    @Autowired
+    private SchedulerLockRepository lockRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ClusterLockService otherNode;
+
+    @BeforeAll
+    void startOtherNode() {
+        otherNode = new ClusterLockService();
+        ReflectionTestUtils.setField(otherNode, "lockRepo", lockRepo);
+        ReflectionTestUtils.setField(otherNode, "transactionManager", transactionManager);
+        ReflectionTestUtils.invokeMethod(otherNode, "init");
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLease() {
+        assertThat(node.tryAcquire("test-held", MINUTE)).isPresent();
+
+        assertThat(otherNode.tryAcquire("test-held", MINUTE)).isEmpty();
+        assertThat(node.tryAcquire("test-held", MINUTE)).as("not reentrant").isEmpty();
+        assertThat(lockRepo.findById("test-held").orElseThrow().getLockedBy()).isEqualTo(node.getOwner());
+    }
+
+    @Test
+    void releasedLeaseIsFreeForTheOtherNode() {
+        Lease lease = node.tryAcquire("test-released", MINUTE).orElseThrow();
+
+        node.release(lease, Duration.ZERO);
+
+        assertThat(otherNode.tryAcquire("test-released", MINUTE)).isPresent();
+    }
+
+    @Test
+    void releaseKeepsTheLeaseForTheMinTime() {
+        Lease lease = node.tryAcquire("test-at-least", MINUTE).orElseThrow();
+
+        node.release(lease, MINUTE);
+
+        assertThat(otherNode.tryAcquire("test-at-least", MINUTE)).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndNotReleasedByItsFormerOwner() throws Exception {
+        Lease lease = node.tryAcquire("test-expired", Duration.ofMillis(200)).orElseThrow();
+        assertThat(otherNode.tryAcquire("test-expired", MINUTE)).isEmpty();
+
+        // ! The job outlived lockAtMost: the lease is free for the other node
+        Thread.sleep(300);
+        Optional<Lease> takenOver = otherNode.tryAcquire("test-expired", MINUTE);
+        assertThat(takenOver).isPresent();
+
+        node.release(lease, Duration.ZERO);
+
+        assertThat(lockRepo.findById("test-expired").orElseThrow().getLockedBy()).isEqualTo(otherNode.getOwner());
+        assertThat(node.tryAcquire("test-expired", MINUTE)).isEmpty();
+    }
+}
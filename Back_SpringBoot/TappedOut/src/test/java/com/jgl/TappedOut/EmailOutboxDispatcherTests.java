@@ -0,0 +1,175 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.jgl.TappedOut.models.OutboxEmail;
+import com.jgl.TappedOut.models.OutboxStatus;
+import com.jgl.TappedOut.repositories.OutboxEmailRepository;
+import com.jgl.TappedOut.service.EmailOutboxDispatcher;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Claims, deliveries and retries of {@link EmailOutboxDispatcher} against the embedded
+ * database and a GreenMail SMTP server
+ *
+ * ? The server listens on spring.mail.port of the test properties. An address that
+ * ? cannot be parsed makes a delivery fail without stopping the server
+ * ! The outbox is shared with the other tests, every test only checks its own rows
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmailOutboxDispatcherTests {
+    private static final String INVALID = "not an address";
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEmailRepository outboxRepo;
+
+    private GreenMail greenMail;
+
+    @BeforeAll
+    void startMailServer() {
+        greenMail = new GreenMail(new ServerSetup(2525, "localhost", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+    }
+
+    @AfterAll
+    void stopMailServer() {
+        greenMail.stop();
+    }
+
+    @Test
+    void sendsDueEmailAndMarksItSent() throws Exception {
+        OutboxEmail email = queue("sent@tappedout.test", "Outbox sent", 0, LocalDateTime.now());
+
+        OutboxEmail sent = awaitDispatched(email.getId(), e -> e.getStatus() == OutboxStatus.SENT);
+
+        assertThat(sent.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(Arrays.stream(greenMail.getReceivedMessages()).map(EmailOutboxDispatcherTests::subject))
+            .contains("Outbox sent");
+    }
+
+    @Test
+    void retriesFailedEmailWithExponentialBackoff() throws Exception {
+        OutboxEmail email = queue(INVALID, "Outbox retry", 0, LocalDateTime.now());
+
+        LocalDateTime before = LocalDateTime.now();
+        OutboxEmail failed = awaitDispatched(email.getId(), e -> e.getAttempts() == 1 && e.getStatus() == OutboxStatus.PENDING);
+
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isNotBlank();
+        // * First retry after the base backoff (30 seconds)
+        assertThat(failed.getNextAttemptAt()).isBetween(before.plusSeconds(29), LocalDateTime.now().plusSeconds(31));
+
+        // ? Two more failed attempts later: the fourth one waits 8x the base
+        failed.setAttempts(3);
+        failed.setNextAttemptAt(LocalDateTime.now());
+        outboxRepo.saveAndFlush(failed);
+
+        before = LocalDateTime.now();
+        failed = awaitDispatched(email.getId(), e -> e.getAttempts() == 4 && e.getStatus() == OutboxStatus.PENDING);
+
+        assertThat(failed.getAttempts()).isEqualTo(4);
+        assertThat(failed.getNextAttemptAt()).isBetween(before.plusSeconds(239), LocalDateTime.now().plusSeconds(241));
+    }
+
+    @Test
+    void movesEmailToDeadAfterMaxAttempts() throws Exception {
+        // * max-attempts is 5, the next claim is the last attempt
+        OutboxEmail email = queue(INVALID, "Outbox dead", 4, LocalDateTime.now());
+
+        OutboxEmail dead = awaitDispatched(email.getId(), e -> e.getStatus() == OutboxStatus.DEAD);
+
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(5);
+        assertThat(dead.getLastError()).isNotBlank();
+    }
+
+    @Test
+    void claimsEmailOnceUntilTheClaimExpires() {
+        LocalDateTime now = LocalDateTime.now();
+
+        OutboxEmail email = queue(INVALID, "Outbox claim", 0, now.minusSeconds(1));
+        assertThat(outboxRepo.claim(email.getId(), now, now.plusMinutes(5))).isEqualTo(1);
+        // * Another dispatcher (thread or node) does not get it
+        assertThat(outboxRepo.claim(email.getId(), now, now.plusMinutes(5))).isZero();
+        assertThat(outboxRepo.findDueIds(now, PageRequest.of(0, 1000)))
+            .doesNotContain(email.getId());
+
+        // ! The dispatcher holding it died: the claim expires and it is due again
+        LocalDateTime later = now.plusMinutes(6);
+        assertThat(outboxRepo.findDueIds(later, PageRequest.of(0, 1000)))
+            .contains(email.getId());
+        assertThat(outboxRepo.claim(email.getId(), later, later.plusMinutes(5))).isEqualTo(1);
+
+        OutboxEmail claimed = outboxRepo.findById(email.getId()).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(OutboxStatus.SENDING);
+        assertThat(claimed.getAttempts()).isEqualTo(2);
+    }
+
+    private OutboxEmail queue(String recipient, String subject, int attempts, LocalDateTime nextAttemptAt) {
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setBody("<p>" + subject + "</p>");
+        email.setAttempts(attempts);
+        email.setNextAttemptAt(nextAttemptAt);
+        return outboxRepo.saveAndFlush(email);
+    }
+
+    /**
+     * Polls the outbox until the email is done, as the scheduled dispatcher would
+     *
+     * ? dispatch() does not wait for the workers, the row is read again until it changes
+     */
+    private OutboxEmail awaitDispatched(Long id, Predicate<OutboxEmail> done) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (true) {
+            dispatcher.dispatch();
+
+            OutboxEmail email = outboxRepo.findById(id).orElseThrow();
+            if (done.test(email) || System.nanoTime() > deadline) return email;
+
+            Thread.sleep(50);
+        }
+    }
+
+    private static String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jgl.TappedOut.TestDataSeeder.Dataset;
+import com.jgl.TappedOut.dto.ReminderRecipientDTO;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.EventReminder;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.repositories.EventReminderRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.OutboxEmailRepository;
+import com.jgl.TappedOut.service.EventReminderService;
+
+/**
+ * Reminders of {@link EventReminderService} and the unique (event, user) key that stops
+ * a concurrent run from sending them twice
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventReminderTests {
+    @Autowired
+    private TestDataSeeder seeder;
+
+    @Autowired
+    private EventReminderService reminderService;
+
+    @Autowired
+    private EventReminderRepository reminderRepo;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private OutboxEmailRepository outboxRepo;
+
+    private Dataset data;
+
+    @BeforeAll
+    void seed() {
+        data = seeder.seed();
+    }
+
+    @Test
+    void remindsEveryCompetitorOnce() {
+        List<ReminderRecipientDTO> pending = pending();
+        // * The first upcoming event starts tomorrow, inside the 3 days window
+        assertThat(pending).isNotEmpty();
+
+        long pairs = pending.stream().map(r -> r.getEventId() + "-" + r.getCompetitorId()).distinct().count();
+        long events = pending.stream().map(ReminderRecipientDTO::getEventId).distinct().count();
+        long reminders = reminderRepo.count();
+        long emails = outboxRepo.count();
+
+        reminderService.sendReminders();
+
+        assertThat(pending()).isEmpty();
+        assertThat(reminderRepo.count() - reminders).isEqualTo(pairs);
+        // ? One bulk email per event, the competitors go in its blind copies
+        assertThat(outboxRepo.count() - emails).isEqualTo(events);
+    }
+
+    @Test
+    void secondReminderOfTheSamePairIsRejected() {
+        Event event = data.events().get(0);
+        User competitor = data.competitors().get(0);
+        reminderRepo.saveAndFlush(reminder(event, competitor));
+
+        assertThatThrownBy(() -> reminderRepo.saveAndFlush(reminder(event, competitor)))
+            .isInstanceOf(DataIntegrityViolationException.class)
+            // * Told apart from other violations, as a run on another node would see it
+            .satisfies(e -> assertThat(isReminderAlreadySent(e)).isTrue());
+    }
+
+    private List<ReminderRecipientDTO> pending() {
+        LocalDateTime now = LocalDateTime.now();
+        return inscriptionRepo.findPendingReminders(now, now.plusDays(3));
+    }
+
+    private static EventReminder reminder(Event event, User competitor) {
+        EventReminder reminder = new EventReminder();
+        reminder.setEventId(event);
+        reminder.setUserId(competitor);
+        return reminder;
+    }
+
+    private static boolean isReminderAlreadySent(Throwable e) {
+        return ReflectionTestUtils.<Boolean>invokeMethod(EventReminderService.class, "isReminderAlreadySent", e);
+    }
+}
@@ -0,0 +1,107 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.jgl.TappedOut.dto.EventResponseDTO;
+import com.jgl.TappedOut.dto.EventSearchFilterDTO;
+import com.jgl.TappedOut.dto.EventSearchPageDTO;
+import com.jgl.TappedOut.service.EventService;
+
+/**
+ * Paging of {@link EventService#searchEventsFaceted}, checked against the unpaged search
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventSearchPageTests {
+    private static final int SIZE = 3;
+
+    @Autowired
+    private TestDataSeeder seeder;
+
+    @Autowired
+    private EventService eventService;
+
+    private List<Long> all;
+
+    @BeforeAll
+    void seed() {
+        seeder.seed();
+        all = ids(eventService.searchEvents(new EventSearchFilterDTO()));
+    }
+
+    @Test
+    void firstPageHasNext() {
+        EventSearchPageDTO page = search(0);
+
+        assertThat(all).hasSizeGreaterThan(SIZE);
+        assertThat(ids(page.getContent())).containsExactlyElementsOf(all.subList(0, SIZE));
+        assertThat(page.getPage()).isZero();
+        assertThat(page.getSize()).isEqualTo(SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(all.size());
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getFacets()).containsOnlyKeys("sport", "status", "country", "city");
+    }
+
+    @Test
+    void lastPageHasTheRemainder() {
+        int last = (all.size() - 1) / SIZE;
+        EventSearchPageDTO page = search(last);
+
+        assertThat(ids(page.getContent())).containsExactlyElementsOf(all.subList(last * SIZE, all.size()));
+        assertThat(page.getTotalElements()).isEqualTo(all.size());
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void pageBeyondTheEndIsEmpty() {
+        EventSearchPageDTO page = search(all.size() / SIZE + 1);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(all.size());
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void pagesFollowTheUnpagedOrder() {
+        List<Long> paged = new ArrayList<>();
+        EventSearchPageDTO page;
+        int number = 0;
+        do {
+            page = search(number++);
+            paged.addAll(ids(page.getContent()));
+        } while (page.isHasNext());
+
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void negativePageIsRejected() {
+        assertThatThrownBy(() -> search(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EventSearchPageDTO search(int page) {
+        return eventService.searchEventsFaceted(new EventSearchFilterDTO(), page, SIZE);
+    }
+
+    private static List<Long> ids(List<EventResponseDTO> events) {
+        return events.stream().map(EventResponseDTO::getId).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jgl.TappedOut.TestDataSeeder.Dataset;
+import com.jgl.TappedOut.models.PendingEventNotification;
+import com.jgl.TappedOut.repositories.PendingEventNotificationRepository;
+
+/**
+ * Debounce of the event update notifications: the ON DUPLICATE KEY upsert of
+ * {@link PendingEventNotificationRepository#schedule} and taking the due ones
+ *
+ * ? Each test uses its own event, and every statement commits on its own as it does
+ * ? for concurrent saves of the event
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PendingEventNotificationTests {
+    @Autowired
+    private TestDataSeeder seeder;
+
+    @Autowired
+    private PendingEventNotificationRepository pendingRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Dataset data;
+
+    @BeforeAll
+    void seed() {
+        data = seeder.seed();
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void savingAgainPostponesUpToTheMaxDelay() {
+        Long eventId = data.events().get(1).getId();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        schedule(eventId, now.plusMinutes(5), now.plusMinutes(30));
+        assertThat(pending(eventId)).isEqualTo(new PendingEventNotification(eventId, now.plusMinutes(5), now.plusMinutes(30)));
+
+        // * Saved again 10 minutes later: postponed, the first max delay is kept
+        schedule(eventId, now.plusMinutes(15), now.plusMinutes(40));
+        assertThat(pending(eventId)).isEqualTo(new PendingEventNotification(eventId, now.plusMinutes(15), now.plusMinutes(30)));
+
+        // * Saved again 28 minutes later: capped at the max delay
+        schedule(eventId, now.plusMinutes(33), now.plusMinutes(58));
+        assertThat(pending(eventId)).isEqualTo(new PendingEventNotification(eventId, now.plusMinutes(30), now.plusMinutes(30)));
+
+        pendingRepo.deleteById(eventId);
+    }
+
+    @Test
+    void dueNotificationIsTakenOnce() {
+        Long eventId = data.events().get(2).getId();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        schedule(eventId, now.plusMinutes(5), now.plusMinutes(30));
+        assertThat(pendingRepo.findDueEventIds(now)).doesNotContain(eventId);
+        // ! Not due yet (saved again after the poll read it): it stays pending
+        assertThat(take(eventId, now)).isZero();
+
+        LocalDateTime later = now.plusMinutes(5);
+        assertThat(pendingRepo.findDueEventIds(later)).contains(eventId);
+        assertThat(take(eventId, later)).isEqualTo(1);
+        // * A second poll (or node) finds nothing left to send
+        assertThat(take(eventId, later)).isZero();
+        assertThat(pendingRepo.findById(eventId)).isEmpty();
+    }
+
+    private void schedule(Long eventId, LocalDateTime dueAt, LocalDateTime maxDueAt) {
+        tx.executeWithoutResult(status -> pendingRepo.schedule(eventId, dueAt, maxDueAt));
+    }
+
+    private int take(Long eventId, LocalDateTime now) {
+        return tx.execute(status -> pendingRepo.takeDue(eventId, now));
+    }
+
+    private PendingEventNotification pending(Long eventId) {
+        return pendingRepo.findById(eventId).orElseThrow();
+    }
+}
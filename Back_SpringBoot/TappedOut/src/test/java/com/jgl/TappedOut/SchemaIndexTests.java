@@ -0,0 +1,219 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jgl.TappedOut.TestDataSeeder.Dataset;
+import com.jgl.TappedOut.dto.CategorySearchFilterDTO;
+import com.jgl.TappedOut.models.Category;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.EventStatus;
+import com.jgl.TappedOut.models.PaymentStatus;
+import com.jgl.TappedOut.models.Result;
+import com.jgl.TappedOut.models.SportLevel;
+import com.jgl.TappedOut.repositories.CategoryRepository;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.PendingEventNotificationRepository;
+import com.jgl.TappedOut.repositories.ResultRepository;
+import com.jgl.TappedOut.repositories.UserRepository;
+
+/**
+ * Runs EXPLAIN on the hot repository queries and fails when one of them stops
+ * using the index created for it by the migrations (db/migration)
+ *
+ * ? Each repository method is called and the SQL Hibernate generated for it is captured
+ * ? by {@link SqlCapture}, then explained with the same values bound.
+ * ? Only the access path of the queried table is checked, the joined tables are read by primary key
+ * ! Renaming or dropping an index in a migration must update the matching query here
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexTests {
+    private static final int PAGE = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataSeeder seeder;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private ResultRepository resultRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private CategoryRepository categoryRepo;
+
+    @Autowired
+    private PendingEventNotificationRepository pendingNotificationRepo;
+
+    private Dataset data;
+
+    /**
+     * @param call calls the repository method
+     * @param parameters values bound by the method, in the order of the SQL
+     * @param table table searched through the index
+     */
+    record HotQuery(String repositoryMethod, Runnable call, List<Object> parameters, String table, String index) {
+        @Override
+        public String toString() {
+            return repositoryMethod + " uses " + index;
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        data = seeder.seed();
+        // * Row counts for the planner, as MySQL keeps them up to date on its own
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    Stream<HotQuery> hotQueries() {
+        Event event = data.events().get(0);
+        Result result = data.results().get(0);
+        Category category = result.getCategoryId();
+        SportLevel level = data.levels().get(0);
+        LocalDateTime after = event.getStartDate();
+        LocalDateTime now = LocalDateTime.now();
+
+        CategorySearchFilterDTO byLevel = new CategorySearchFilterDTO();
+        byLevel.setSportId(level.getSportId().getId());
+        byLevel.setGenderId(category.getGenderId().getId());
+        byLevel.setLevelId(level.getId());
+
+        CategorySearchFilterDTO byAge = new CategorySearchFilterDTO();
+        byAge.setSportId(category.getSportId().getId());
+        byAge.setGenderId(category.getGenderId().getId());
+        byAge.setMinAge(20);
+
+        // ! findBySportIdPage is left out: H2 does not use an index for an ORDER BY after an
+        // ! equality, so idx_events_sport_start costs the same as the sport_id foreign key index
+        return Stream.of(
+            // * Events (keyset pagination)
+            new HotQuery("EventRepository.findAllAfter",
+                () -> eventRepo.findAllAfter(after, event.getId(), PageRequest.ofSize(PAGE)),
+                List.of(after, after, event.getId(), PAGE),
+                "events", "idx_events_start_id"),
+            new HotQuery("EventRepository.findUpcomingEventsPage",
+                () -> eventRepo.findUpcomingEventsPage(PageRequest.ofSize(PAGE)),
+                List.of(PAGE),
+                "events", "idx_events_start_id"),
+            new HotQuery("EventRepository.findByStatusPage",
+                () -> eventRepo.findByStatusPage(EventStatus.PLANNED, PageRequest.ofSize(PAGE)),
+                List.of(EventStatus.PLANNED.name(), PAGE),
+                "events", "idx_events_status_start"),
+            new HotQuery("EventRepository.findViewsByCountryAndCity",
+                () -> eventRepo.findViewsByCountryAndCity(event.getCountry(), event.getCity()),
+                List.of(event.getCountry(), event.getCity()),
+                "events", "idx_events_country_city"),
+
+            // * Inscriptions
+            new HotQuery("InscriptionRepository.countByEventIdAndPaymentStatus",
+                () -> inscriptionRepo.countByEventIdAndPaymentStatus(event, PaymentStatus.PAID),
+                List.of(event.getId(), PaymentStatus.PAID.name()),
+                "inscriptions", "idx_inscriptions_event_status"),
+            new HotQuery("InscriptionRepository.findByEventIdAndCategoryId",
+                () -> inscriptionRepo.findByEventIdAndCategoryId(result.getEventId(), category),
+                List.of(result.getEventId().getId(), category.getId()),
+                "inscriptions", "idx_inscriptions_event_category"),
+            new HotQuery("InscriptionRepository.existsByCompetitorIdAndEventIdAndCategoryId",
+                () -> inscriptionRepo.existsByCompetitorIdAndEventIdAndCategoryId(result.getCompetitorId(), result.getEventId(), category),
+                List.of(result.getCompetitorId().getId(), result.getEventId().getId(), category.getId(), 1),
+                "inscriptions", "idx_inscriptions_competitor_event_category"),
+
+            // * Results
+            new HotQuery("ResultRepository.findByEventIdAndCompetitorId",
+                () -> resultRepo.findByEventIdAndCompetitorId(result.getEventId(), result.getCompetitorId()),
+                List.of(result.getEventId().getId(), result.getCompetitorId().getId()),
+                "results", "idx_results_competitor_event"),
+            new HotQuery("ResultRepository.findByEventIdAndPosition",
+                () -> resultRepo.findByEventIdAndPosition(result.getEventId(), 1),
+                List.of(result.getEventId().getId(), 1),
+                "results", "idx_results_event_position"),
+
+            // * Users and categories
+            new HotQuery("UserRepository.findViewsByCountryAndCity",
+                () -> userRepo.findViewsByCountryAndCity(event.getCountry(), event.getCity()),
+                List.of(event.getCountry(), event.getCity()),
+                "users", "idx_users_country_city"),
+            // ? Shapes emitted by CategoryRepositoryCustomImpl.searchViews (only the filters given)
+            new HotQuery("CategoryRepository.searchViews",
+                () -> categoryRepo.searchViews(byLevel),
+                List.of(byLevel.getSportId(), byLevel.getGenderId(), byLevel.getLevelId()),
+                "categories", "idx_categories_sport_gender_level"),
+            new HotQuery("CategoryRepository.searchViews (without level)",
+                () -> categoryRepo.searchViews(byAge),
+                List.of(byAge.getSportId(), byAge.getGenderId(), byAge.getMinAge()),
+                "categories", "idx_categories_sport_gender_level"),
+            // ? A free name, the seeded categories of a sport repeat names across genders
+            new HotQuery("CategoryRepository.findBySportIdAndName",
+                () -> categoryRepo.findBySportIdAndName(category.getSportId(), "Unused category"),
+                List.of(category.getSportId().getId(), "Unused category"),
+                "categories", "idx_categories_sport_name"),
+
+            // * Event update notifications
+            new HotQuery("PendingEventNotificationRepository.findDueEventIds",
+                () -> pendingNotificationRepo.findDueEventIds(now),
+                List.of(now),
+                "pending_event_notifications", "idx_pending_event_notifications_due")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(HotQuery query) {
+        SqlCapture.start();
+        query.call().run();
+        List<SqlCapture.Statement> statements = SqlCapture.stop();
+
+        assertThat(statements)
+            .as("Statements run by %s", query.repositoryMethod())
+            .hasSize(1);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + statements.get(0).sql(), String.class, query.parameters().toArray());
+        String accessPath = accessPath(plan, query.table());
+
+        assertThat(accessPath)
+            .as("Plan of %s\n%s", query.repositoryMethod(), plan)
+            .containsIgnoringCase(query.index());
+    }
+
+    /**
+     * Index (or scan) H2 reads the table with, the comment after it in the plan
+     */
+    private static String accessPath(String plan, String table) {
+        Matcher matcher = Pattern.compile("\\.\"" + table + "\" \"\\w+\"\\s*/\\*([^*]*)\\*/", Pattern.CASE_INSENSITIVE).matcher(plan);
+        return matcher.find() ? matcher.group(1) : "no access path for " + table;
+    }
+}
@@ -0,0 +1,118 @@
+package com.jgl.TappedOut;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * Records the SQL statements prepared on the current thread between {@link #start()} and {@link #stop()}
+ *
+ * ? Wraps the DataSource bean, so the statements and their values are seen as the driver
+ * ? gets them and the Hibernate configuration of the application is left untouched
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@TestComponent
+public class SqlCapture implements BeanPostProcessor {
+    private static final ThreadLocal<List<Statement>> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * A prepared statement and the values bound to it, by parameter index
+     */
+    public record Statement(String sql, Map<Integer, Object> values) {
+        /**
+         * Values in parameter order, to run the same SQL again through JdbcTemplate
+         */
+        public Object[] parameters() {
+            return values.values().toArray();
+        }
+    }
+
+    /**
+     * Starts recording the statements of the current thread
+     */
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops recording the statements of the current thread
+     *
+     * @return the statements prepared since {@link #start()}, in order
+     */
+    public static List<Statement> stop() {
+        List<Statement> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) return bean;
+
+        return proxy(DataSource.class, dataSource, (method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = invoke(target, method, args);
+
+            List<Statement> statements = STATEMENTS.get();
+            if (statements == null || !method.getName().equals("prepareStatement")
+                    || !(result instanceof PreparedStatement prepared) || !(args[0] instanceof String sql))
+                return result;
+
+            Statement statement = new Statement(sql, new TreeMap<>());
+            statements.add(statement);
+            return bound(prepared, statement);
+        });
+    }
+
+    /**
+     * Keeps the value of every setXxx(index, value) call on the statement
+     */
+    private static PreparedStatement bound(PreparedStatement target, Statement statement) {
+        return proxy(PreparedStatement.class, target, (method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index)
+                statement.values().put(index, method.getName().equals("setNull") ? null : args[1]);
+            return invoke(target, method, args);
+        });
+    }
+
+    private interface Call {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Call call) {
+        return type.cast(Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            // ? Identity of the proxy itself, the pool compares connections by reference
+            if (method.getName().equals("equals") && args.length == 1) return proxy == args[0];
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) return System.identityHashCode(proxy);
+            return call.invoke(method, args);
+        }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.jgl.TappedOut;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.jgl.TappedOut.TestDataSeeder.Dataset;
+import com.jgl.TappedOut.TestDataSeeder.Disposable;
+import com.jgl.TappedOut.conf.JwtTokenProvider;
+import com.jgl.TappedOut.conf.SqlStatementCounter;
+import com.jgl.TappedOut.models.Category;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.Inscription;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.service.EventSearchIndex;
+import com.jgl.TappedOut.service.ReferenceDataCache;
+import com.jgl.TappedOut.service.UserSearchIndex;
+
+/**
+ * Calls every endpoint against the seeded dataset and fails when a request runs
+ * more SQL statements than its budget
+ *
+ * ? The budgets are the current counts. A new eager association, a lazy one
+ * ? read inside a loop or a missing fetch join makes the matching test fail.
+ * ? Lower a budget when a query is optimized, raise it only on purpose.
+ * ? Creates add new rows and deletes remove the disposable ones, the calls run in order
+ * ? so the event category added by a create is the one removed later
+ * ! The statements are counted on the request thread by {@link SqlStatementCounter}
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestDataSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestDataSeeder seeder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    private Dataset data;
+
+    private Disposable disposable;
+
+    private String adminToken;
+
+    record Call(HttpMethod method, String path, String body, int budget) {
+        @Override
+        public String toString() {
+            return method + " " + path + " <= " + budget;
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        data = seeder.seed();
+        disposable = seeder.disposable();
+        // * Reference tables are read once here, not by whichever call runs first
+        referenceDataCache.preload();
+        eventSearchIndex.rebuild();
+        userSearchIndex.rebuild();
+        adminToken = jwtTokenProvider.generateAccessToken(data.admin().getId(), data.admin().getEmail(), "ADMIN");
+    }
+
+    Stream<Call> calls() {
+        Event event = data.events().get(0);
+        Event upcoming = data.events().get(data.events().size() - 1);
+        Category category = data.results().get(0).getCategoryId();
+        User competitor = data.results().get(0).getCompetitorId();
+        User organizer = data.organizers().get(0);
+        Long sportId = data.sports().get(0).getId();
+        Long genderId = competitor.getGenderId().getId();
+        Long levelId = data.levels().get(0).getId();
+        Event last = data.events().get(TestDataSeeder.EVENTS - 1);
+        User entrant = disposable.entrant();
+        Category entrantCategory = data.categories().stream()
+            .filter(c -> c.getSportId().getId().equals(last.getSportId().getId()))
+            .filter(c -> c.getGenderId().getId().equals(entrant.getGenderId().getId()))
+            .findFirst().orElseThrow();
+        Inscription unranked = disposable.unranked();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(competitor.getId(), competitor.getEmail());
+
+        return Stream.of(
+            // * Reference data (served from ReferenceDataCache)
+            get("/sport", 0),
+            get("/sport/" + sportId, 0),
+            get("/sport/name/Judo", 1),
+            get("/gender", 0),
+            get("/gender/" + genderId, 0),
+            get("/gender/name/MALE", 1),
+            get("/user-types", 0),
+            get("/user-types/name/ADMIN", 1),
+            get("/sport-level", 0),
+            get("/sport-level/sport/" + sportId, 2),
+            get("/sport-level/" + levelId, 0),
+
+            // * Categories
+            get("/category", 1),
+            get("/category/sport/" + sportId, 1),
+            get("/category/gender/" + genderId, 1),
+            get("/category/level/" + levelId, 1),
+            get("/category/search?sportId=" + sportId + "&genderId=" + genderId, 1),
+            get("/category/search?sportId=" + sportId + "&genderId=" + genderId + "&levelId=" + levelId +
+                "&minAge=20&maxWeight=80&sort=minWeight,desc", 1),
+            get("/category/" + category.getId(), 1),
+
+            // * Events
+            get("/event", 1),
+            get("/event?size=5", 1),
+            get("/event/sport/" + sportId, 1),
+            get("/event/organizer/" + organizer.getId(), 2),
+            get("/event/status/COMPLETED", 1),
+            get("/event/location?country=Spain&city=Madrid", 1),
+            get("/event/upcoming", 1),
+            get("/event/past", 1),
+            // * Search (served from EventSearchIndex)
+            get("/event/search?query=Open", 0),
+            get("/event/search?query=tourn%20madr", 0),
+            get("/event/search?sportId=" + sportId + "&city=valencia", 0),
+            get("/event/search?sportId=" + sportId + "&sportId=" + data.sports().get(1).getId() +
+                "&status=PLANNED&status=ONGOING&from=2020-01-01&minFee=10&maxFee=50", 0),
+            get("/event/search/faceted?size=5", 0),
+            get("/event/search/faceted?sportId=" + sportId + "&query=open&page=1&size=2", 0),
+            get("/event/" + event.getId(), 1),
+            get("/event/" + event.getId() + "/categories", 4),
+
+            // * Users
+            get("/user", 1),
+            get("/user/type/" + competitor.getTypeId().getId(), 1),
+            get("/user/gender/" + genderId, 1),
+            get("/user/location?country=Spain&city=Madrid", 1),
+            // ? Matches found in UserSearchIndex, only their rows are loaded
+            get("/user/search?query=Name1", 1),
+            get("/user/search?query=nam%20sur&size=5", 1),
+            get("/user/" + competitor.getId(), 1),
+            get("/user/dni/" + competitor.getDni(), 3),
+            get("/user/email/" + competitor.getEmail(), 3),
+
+            // * Inscriptions
+            get("/inscription", 1),
+            get("/inscription/competitor/" + competitor.getId(), 2),
+            get("/inscription/event/" + event.getId(), 2),
+            get("/inscription/event/" + event.getId() + "/category/" + category.getId(), 3),
+            get("/inscription/status/PAID", 1),
+            get("/inscription/event/" + event.getId() + "/paid", 2),
+            get("/inscription/event/" + event.getId() + "/paid/count", 2),
+            get("/inscription/event/" + event.getId() + "/export", 3),
+            get("/inscription/" + data.inscriptions().get(0).getId(), 4),
+            get("/inscription/competitor/" + competitor.getId() + "/event/" + event.getId(), 3),
+
+            // * Results
+            get("/results", 1),
+            get("/results/event/" + event.getId(), 2),
+            get("/results/event/" + event.getId() + "/category/" + category.getId(), 3),
+            get("/results/competitor/" + competitor.getId(), 2),
+            get("/results/competitor/" + competitor.getId() + "/event/" + event.getId(), 3),
+            get("/results/event/" + event.getId() + "/position/1", 2),
+            get("/results/" + data.results().get(0).getId(), 4),
+            get("/results/event/" + event.getId() + "/category/" + category.getId() + "/winners", 3),
+
+            // * Updates
+            put("/user/" + competitor.getId(), """
+                {"firstName": "Name", "lastName": "Surname", "dateOfBirth": "1990-01-01", "country": "Spain", "city": "Madrid"}
+                """, 2),
+            // ? + 1 to reload the event into the search index after commit
+            put("/event/" + upcoming.getId(), """
+                {"name": "Open updated", "startDate": "%s", "endDate": "%s", "country": "Spain", "city": "Madrid"}
+                """.formatted(upcoming.getStartDate(), upcoming.getEndDate()), 4),
+            put("/results/" + data.results().get(0).getId(), """
+                {"position": 4, "notes": "Submission"}
+                """, 8),
+
+            // * Creates
+            post("/auth/register", """
+                {"email": "registered@tappedout.test", "password": "Secret123", "firstName": "New", "lastName": "Member",
+                 "dni": "REG00001", "dateOfBirth": "1995-05-05", "country": "Spain", "city": "Madrid",
+                 "userType": "COMPETITOR", "genderId": %d}
+                """.formatted(genderId), 5),
+            post("/auth/login", """
+                {"email": "registered@tappedout.test", "password": "Secret123"}
+                """, 4),
+            post("/auth/refresh", """
+                {"refreshToken": "%s"}
+                """.formatted(refreshToken), 1),
+            post("/sport", """
+                {"name": "Karate"}
+                """, 2),
+            post("/gender", """
+                {"name": "NON_BINARY"}
+                """, 2),
+            post("/user-types", """
+                {"name": "REFEREE"}
+                """, 2),
+            post("/sport-level", """
+                {"sportId": %d, "name": "Intermediate"}
+                """.formatted(sportId), 4),
+            post("/category", """
+                {"sportId": %d, "name": "Masters", "minAge": 35, "genderId": %d, "levelId": %d}
+                """.formatted(sportId, genderId, levelId), 5),
+            // ? + 1 to load the new event into the search index after commit
+            post("/event", """
+                {"sportId": %d, "organizerId": %d, "name": "Open new", "startDate": "%s", "endDate": "%s",
+                 "country": "Spain", "city": "Madrid", "registrationFee": 25}
+                """.formatted(sportId, organizer.getId(), upcoming.getStartDate(), upcoming.getEndDate()), 4),
+            post("/user", """
+                {"dni": "USR00001", "typeId": %d, "email": "created@tappedout.test", "password": "Secret123",
+                 "firstName": "New", "lastName": "User", "dateOfBirth": "1992-02-02", "genderId": {"id": %d},
+                 "country": "Spain", "city": "Valencia"}
+                """.formatted(competitor.getTypeId().getId(), genderId), 7),
+            post("/inscription", """
+                {"competitorId": %d, "eventId": %d, "categoryId": %d}
+                """.formatted(entrant.getId(), last.getId(), entrantCategory.getId()), 6),
+            post("/results", """
+                {"eventId": %d, "categoryId": %d, "competitorId": %d, "position": 5}
+                """.formatted(unranked.getEventId().getId(), unranked.getCategoryId().getId(),
+                    unranked.getCompetitorId().getId()), 7),
+            post("/event/" + disposable.event().getId() + "/category/" + disposable.category().getId(), null, 5),
+
+            // * Deletes
+            delete("/event/" + disposable.event().getId() + "/category/" + disposable.category().getId(), 5),
+            delete("/inscription/" + disposable.inscription().getId(), 2),
+            delete("/results/" + disposable.result().getId(), 2),
+            // ? + 1 to drop the event from the search index after commit
+            delete("/event/" + disposable.event().getId(), 4),
+            delete("/category/" + disposable.category().getId(), 2),
+            delete("/sport-level/" + disposable.level().getId(), 2),
+            delete("/user/" + disposable.user().getId(), 2),
+            delete("/user-types/" + disposable.userType().getId(), 2),
+            delete("/gender/" + disposable.gender().getId(), 2),
+            delete("/sport/" + disposable.sport().getId(), 2)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("calls")
+    void staysWithinStatementBudget(Call call) throws Exception {
+        MockHttpServletRequestBuilder builder = request(call.method(), call.path())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken);
+        if (call.body() != null)
+            builder.contentType(MediaType.APPLICATION_JSON).content(call.body());
+
+        SqlStatementCounter.reset();
+        MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
+        long statements = SqlStatementCounter.current();
+
+        assertThat(response.getStatus())
+            .as("%s answered %s", call, response.getContentAsString())
+            .isBetween(200, 299);
+        assertThat(statements)
+            .as("SQL statements run by %s", call)
+            .isLessThanOrEqualTo(call.budget());
+    }
+
+    private static Call get(String path, int budget) {
+        return new Call(HttpMethod.GET, path, null, budget);
+    }
+
+    private static Call put(String path, String body, int budget) {
+        return new Call(HttpMethod.PUT, path, body, budget);
+    }
+
+    private static Call post(String path, String body, int budget) {
+        return new Call(HttpMethod.POST, path, body, budget);
+    }
+
+    private static Call delete(String path, int budget) {
+        return new Call(HttpMethod.DELETE, path, null, budget);
+    }
+}
@@ -0,0 +1,316 @@
+package com.jgl.TappedOut;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jgl.TappedOut.models.Category;
+import com.jgl.TappedOut.models.Event;
+import com.jgl.TappedOut.models.EventCategory;
+import com.jgl.TappedOut.models.EventStatus;
+import com.jgl.TappedOut.models.Gender;
+import com.jgl.TappedOut.models.Inscription;
+import com.jgl.TappedOut.models.PaymentStatus;
+import com.jgl.TappedOut.models.Result;
+import com.jgl.TappedOut.models.Sport;
+import com.jgl.TappedOut.models.SportLevel;
+import com.jgl.TappedOut.models.User;
+import com.jgl.TappedOut.models.UserType;
+import com.jgl.TappedOut.repositories.CategoryRepository;
+import com.jgl.TappedOut.repositories.EventCategoryRepository;
+import com.jgl.TappedOut.repositories.EventRepository;
+import com.jgl.TappedOut.repositories.GenderRepository;
+import com.jgl.TappedOut.repositories.InscriptionRepository;
+import com.jgl.TappedOut.repositories.ResultRepository;
+import com.jgl.TappedOut.repositories.SportLevelRepository;
+import com.jgl.TappedOut.repositories.SportRepository;
+import com.jgl.TappedOut.repositories.UserRepository;
+import com.jgl.TappedOut.repositories.UserTypeRepository;
+import com.jgl.TappedOut.service.EventSearchIndex;
+import com.jgl.TappedOut.service.ReferenceDataCache;
+import com.jgl.TappedOut.service.UserSearchIndex;
+
+/**
+ * Seeds the embedded database with a small but realistic dataset
+ *
+ * ? Every list has several rows with different related entities, so a lazy
+ * ? association loaded one by one shows up as extra statements
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+@TestComponent
+@Import(SqlCapture.class)
+public class TestDataSeeder {
+    public static final int ORGANIZERS = 4;
+    public static final int COMPETITORS = 40;
+    public static final int EVENTS = 8;
+    public static final int CATEGORIES_PER_EVENT = 4;
+
+    @Autowired
+    private GenderRepository genderRepo;
+
+    @Autowired
+    private UserTypeRepository userTypeRepo;
+
+    @Autowired
+    private SportRepository sportRepo;
+
+    @Autowired
+    private SportLevelRepository sportLevelRepo;
+
+    @Autowired
+    private CategoryRepository categoryRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private EventCategoryRepository eventCategoryRepo;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepo;
+
+    @Autowired
+    private ResultRepository resultRepo;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    private Dataset dataset;
+
+    private Disposable disposable;
+
+    /**
+     * IDs of the seeded rows used to build request paths
+     */
+    public record Dataset(User admin, List<User> organizers, List<User> competitors, List<Sport> sports,
+        List<SportLevel> levels, List<Category> categories, List<Event> events, List<Inscription> inscriptions,
+        List<Result> results) {}
+
+    /**
+     * Seeds the dataset once per application context
+     *
+     * @return the seeded Dataset
+     */
+    @Transactional
+    public synchronized Dataset seed() {
+        if (dataset != null) return dataset;
+
+        List<Gender> genders = genderRepo.saveAll(List.of(new Gender(null, "MALE"), new Gender(null, "FEMALE")));
+        UserType competitorType = userTypeRepo.save(new UserType(null, "COMPETITOR"));
+        UserType organizerType = userTypeRepo.save(new UserType(null, "ORGANIZER"));
+        UserType adminType = userTypeRepo.save(new UserType(null, "ADMIN"));
+
+        List<Sport> sports = sportRepo.saveAll(List.of(
+            new Sport(null, "Brazilian Jiu-Jitsu"), new Sport(null, "Judo"), new Sport(null, "Wrestling")));
+
+        List<SportLevel> levels = new ArrayList<>();
+        for (Sport sport : sports)
+            for (String name : List.of("Beginner", "Advanced"))
+                levels.add(new SportLevel(null, sport, name));
+        levels = sportLevelRepo.saveAll(levels);
+
+        List<Category> categories = new ArrayList<>();
+        for (SportLevel level : levels)
+            for (Gender gender : genders)
+                for (int weight = 60; weight <= 80; weight += 20)
+                    categories.add(new Category(null, level.getSportId(), "Adult " + level.getName() + " -" + weight + "kg",
+                        18, 99, BigDecimal.valueOf(weight - 20), BigDecimal.valueOf(weight), gender, level));
+        categories = categoryRepo.saveAll(categories);
+
+        User admin = userRepo.save(user(0, adminType, genders.get(0)));
+
+        List<User> organizers = new ArrayList<>();
+        for (int i = 1; i <= ORGANIZERS; i++)
+            organizers.add(user(i, organizerType, genders.get(i % 2)));
+        organizers = userRepo.saveAll(organizers);
+
+        List<User> competitors = new ArrayList<>();
+        for (int i = 1; i <= COMPETITORS; i++)
+            competitors.add(user(ORGANIZERS + i, competitorType, genders.get(i % 2)));
+        competitors = userRepo.saveAll(competitors);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = new Event();
+            event.setSportId(sports.get(i % sports.size()));
+            event.setOrganizerId(organizers.get(i % ORGANIZERS));
+            event.setName("Open " + sports.get(i % sports.size()).getName() + " " + (2025 + i));
+            event.setDescription("Open tournament number " + i);
+            // ? Half of the events already took place, half are upcoming
+            event.setStartDate(now.plusDays((i - EVENTS / 2) * 15L + 1));
+            event.setEndDate(event.getStartDate().plusDays(1));
+            event.setStatus(i < EVENTS / 2 ? EventStatus.COMPLETED : EventStatus.PLANNED);
+            event.setCountry("Spain");
+            event.setCity(i % 2 == 0 ? "Madrid" : "Valencia");
+            event.setAddress("Calle Mayor " + i);
+            event.setRegistrationFee(BigDecimal.valueOf(30));
+            events.add(event);
+        }
+        events = eventRepo.saveAll(events);
+
+        List<EventCategory> eventCategories = new ArrayList<>();
+        List<Inscription> inscriptions = new ArrayList<>();
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            List<Category> sportCategories = categories.stream()
+                .filter(c -> c.getSportId().getId().equals(event.getSportId().getId()))
+                .limit(CATEGORIES_PER_EVENT)
+                .toList();
+
+            for (int c = 0; c < sportCategories.size(); c++) {
+                Category category = sportCategories.get(c);
+                eventCategories.add(new EventCategory(event, category));
+
+                // * 3 competitors per category, different for every category of the event.
+                // ? The same regulars take part in every past event, so a competitor alone matches
+                // ? several results and only (competitor, event) pins one down, as in production
+                for (int k = 0; k < 3; k++) {
+                    int offset = event.getStatus() == EventStatus.COMPLETED ? c * 3 + k : i * 7 + c * 3 + k;
+                    User competitor = competitors.get(offset % COMPETITORS);
+                    Inscription inscription = new Inscription();
+                    inscription.setCompetitorId(competitor);
+                    inscription.setEventId(event);
+                    inscription.setCategoryId(category);
+                    inscription.setPaymentStatus(k == 2 ? PaymentStatus.PENDING : PaymentStatus.PAID);
+                    inscriptions.add(inscription);
+
+                    if (event.getStatus() == EventStatus.COMPLETED)
+                        results.add(new Result(null, event, category, competitor, k + 1, null));
+                }
+            }
+        }
+        eventCategoryRepo.saveAll(eventCategories);
+        inscriptions = inscriptionRepo.saveAll(inscriptions);
+        results = resultRepo.saveAll(results);
+
+        // ! The cache and the search index were loaded empty on startup
+        referenceDataCache.invalidateSports();
+        referenceDataCache.invalidateGenders();
+        referenceDataCache.invalidateUserTypes();
+        // * Rebuilt once the seeded rows are committed, a rebuild inside this transaction would not see them
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventSearchIndex.rebuild();
+                userSearchIndex.rebuild();
+            }
+        });
+
+        dataset = new Dataset(admin, organizers, competitors, sports, levels, categories, events, inscriptions, results);
+        return dataset;
+    }
+
+    /**
+     * Rows no request of the dataset depends on, for the tests creating or deleting rows
+     *
+     * ? The entrant is a competitor not inscribed in the last event. The unranked inscription
+     * ? is a regular competitor in the first category of the first (completed) event without
+     * ? a result, so a result can be created for it without a new competitor in the results
+     */
+    public record Disposable(Sport sport, Gender gender, UserType userType, SportLevel level, Category category,
+        Event event, User user, User entrant, Inscription unranked, Inscription inscription, Result result) {}
+
+    /**
+     * Seeds the disposable rows on top of the dataset, once per application context
+     *
+     * @return the seeded Disposable rows
+     */
+    @Transactional
+    public synchronized Disposable disposable() {
+        if (disposable != null) return disposable;
+
+        Dataset data = seed();
+        Sport sport = data.sports().get(0);
+        Gender gender = data.competitors().get(0).getGenderId();
+        UserType competitorType = data.competitors().get(0).getTypeId();
+        Event completed = data.events().get(0);
+        Event next = data.events().get(EVENTS - 2);
+
+        Category category = categoryRepo.save(new Category(null, sport, "Open", null, null, null, null, gender, null));
+
+        Event event = new Event();
+        event.setSportId(sport);
+        event.setOrganizerId(data.organizers().get(0));
+        event.setName("Disposable " + sport.getName());
+        event.setStartDate(next.getStartDate().plusDays(1));
+        event.setEndDate(event.getStartDate().plusDays(1));
+        event.setStatus(EventStatus.PLANNED);
+        event.setCountry("Spain");
+        event.setCity("Madrid");
+        event.setRegistrationFee(BigDecimal.ZERO);
+        event = eventRepo.save(event);
+
+        int last = ORGANIZERS + COMPETITORS;
+        User user = userRepo.save(user(last + 1, competitorType, gender));
+        User entrant = userRepo.save(user(last + 2, competitorType, gender));
+
+        // * Ranked in another category of the same event
+        User regular = data.competitors().get(3);
+        Inscription unranked = inscriptionRepo.save(inscription(regular, completed, data.results().get(0).getCategoryId()));
+        Inscription upcoming = data.inscriptions().stream()
+            .filter(i -> i.getEventId().getId().equals(next.getId()))
+            .findFirst().orElseThrow();
+        Inscription inscription = inscriptionRepo.save(inscription(entrant, next, upcoming.getCategoryId()));
+        // * A result below the podium of another past event
+        Result podium = data.results().stream()
+            .filter(r -> !r.getEventId().getId().equals(completed.getId()))
+            .findFirst().orElseThrow();
+        Result result = resultRepo.save(new Result(null, podium.getEventId(), podium.getCategoryId(), entrant, 9, null));
+
+        disposable = new Disposable(
+            sportRepo.save(new Sport(null, "Sambo")),
+            genderRepo.save(new Gender(null, "OTHER")),
+            userTypeRepo.save(new UserType(null, "JUDGE")),
+            sportLevelRepo.save(new SportLevel(null, sport, "Expert")),
+            category, event, user, entrant, unranked, inscription, result);
+        return disposable;
+    }
+
+    private static Inscription inscription(User competitor, Event event, Category category) {
+        Inscription inscription = new Inscription();
+        inscription.setCompetitorId(competitor);
+        inscription.setEventId(event);
+        inscription.setCategoryId(category);
+        inscription.setPaymentStatus(PaymentStatus.PAID);
+        return inscription;
+    }
+
+    private User user(int i, UserType type, Gender gender) {
+        User user = new User();
+        user.setDni(String.format("%08dT", i));
+        user.setTypeId(type);
+        user.setEmail(type.getName().toLowerCase() + i + "@tappedout.test");
+        user.setPasswordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3p1u5Pw0eFZ5Zq2vX1cQ8y2");
+        user.setFirstName("Name" + i);
+        user.setLastName("Surname" + i);
+        user.setDateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i * 37L));
+        user.setGenderId(gender);
+        user.setCountry("Spain");
+        user.setCity(i % 2 == 0 ? "Madrid" : "Valencia");
+        user.setIsVerified(true);
+        return user;
+    }
+}
@@ -0,0 +1,157 @@
+package com.jgl.TappedOut.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.jgl.TappedOut.dto.EventView;
+import com.jgl.TappedOut.dto.SportResponseDTO;
+import com.jgl.TappedOut.models.EventStatus;
+import com.jgl.TappedOut.service.EventCatalog.All;
+import com.jgl.TappedOut.service.EventCatalog.Any;
+import com.jgl.TappedOut.service.EventCatalog.Criterion;
+import com.jgl.TappedOut.service.EventCatalog.Facet;
+import com.jgl.TappedOut.service.EventCatalog.FacetCount;
+import com.jgl.TappedOut.service.EventCatalog.FacetIn;
+import com.jgl.TappedOut.service.EventCatalog.FeeBetween;
+import com.jgl.TappedOut.service.EventCatalog.StartBetween;
+
+/**
+ * Filters and facet counts of {@link EventCatalog}
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+class EventCatalogTests {
+    private static final SportResponseDTO JUDO = new SportResponseDTO(1L, "Judo");
+    private static final SportResponseDTO KARATE = new SportResponseDTO(2L, "Karate");
+    private static final SportResponseDTO TAEKWONDO = new SportResponseDTO(3L, "Taekwondo");
+
+    private EventCatalog catalog;
+
+    @BeforeEach
+    void setup() {
+        // * Ordinal 0 to 4
+        List<EventView> events = List.of(
+            event(1L, JUDO, EventStatus.PLANNED, "Spain", "Málaga", LocalDate.of(2025, 3, 1), new BigDecimal("20")),
+            event(2L, KARATE, EventStatus.PLANNED, "Spain", "Valencia", LocalDate.of(2025, 3, 10), new BigDecimal("35")),
+            event(3L, JUDO, EventStatus.ONGOING, "Portugal", "Lisboa", LocalDate.of(2025, 4, 5), null),
+            event(4L, TAEKWONDO, EventStatus.COMPLETED, "France", "Paris", LocalDate.of(2025, 5, 20), new BigDecimal("50")),
+            event(5L, KARATE, EventStatus.PLANNED, "Spain", " Valencia ", LocalDate.of(2025, 3, 10), new BigDecimal("20.00")));
+
+        catalog = new EventCatalog();
+        for (int ordinal = 0; ordinal < events.size(); ordinal++) catalog.add(ordinal, events.get(ordinal));
+    }
+
+    @Test
+    void facetMatchesAnyOfItsValues() {
+        assertThat(ordinals(new FacetIn(Facet.SPORT, List.of("1", "3"), false))).containsExactly(0, 2, 3);
+        assertThat(ordinals(new FacetIn(Facet.STATUS, List.of("planned"), false))).containsExactly(0, 1, 4);
+        assertThat(ordinals(new FacetIn(Facet.SPORT, List.of("9"), false))).isEmpty();
+    }
+
+    @Test
+    void allMatchesEveryCriterion() {
+        assertThat(ordinals(new All(List.of(
+            new FacetIn(Facet.SPORT, List.of("1", "2"), false),
+            new FacetIn(Facet.COUNTRY, List.of("Spain"), false))))).containsExactly(0, 1, 4);
+        assertThat(ordinals(new All(List.of(
+            new FacetIn(Facet.SPORT, List.of("1", "2"), false),
+            new FacetIn(Facet.STATUS, List.of("ONGOING"), false))))).containsExactly(2);
+    }
+
+    @Test
+    void anyMatchesSomeCriterion() {
+        assertThat(ordinals(new Any(List.of(
+            new FacetIn(Facet.COUNTRY, List.of("France"), false),
+            new FacetIn(Facet.STATUS, List.of("ONGOING"), false))))).containsExactly(2, 3);
+    }
+
+    @Test
+    void emptyAnyMatchesNoneAndEmptyAllEvery() {
+        assertThat(ordinals(new Any(List.of()))).isEmpty();
+        assertThat(ordinals(new All(List.of()))).containsExactly(0, 1, 2, 3, 4);
+        assertThat(ordinals(null)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void locationsIgnoreCaseAndAccents() {
+        assertThat(ordinals(new FacetIn(Facet.CITY, List.of("MALAGA"), false))).containsExactly(0);
+        assertThat(ordinals(new FacetIn(Facet.CITY, List.of("valencia"), false))).containsExactly(1, 4);
+        assertThat(ordinals(new FacetIn(Facet.CITY, List.of("valen"), true))).containsExactly(1, 4);
+        assertThat(ordinals(new FacetIn(Facet.CITY, List.of("valen"), false))).isEmpty();
+    }
+
+    @Test
+    void startBetweenIsInclusive() {
+        assertThat(ordinals(new StartBetween(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)))).containsExactly(0, 1, 4);
+        assertThat(ordinals(new StartBetween(null, LocalDate.of(2025, 3, 1)))).containsExactly(0);
+        assertThat(ordinals(new StartBetween(LocalDate.of(2025, 4, 5), null))).containsExactly(2, 3);
+        assertThat(ordinals(new StartBetween(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 3, 1)))).isEmpty();
+    }
+
+    @Test
+    void feeBetweenIsInclusiveAndTreatsNoFeeAsFree() {
+        assertThat(ordinals(new FeeBetween(new BigDecimal("20"), new BigDecimal("35")))).containsExactly(0, 1, 4);
+        assertThat(ordinals(new FeeBetween(null, BigDecimal.ZERO))).containsExactly(2);
+        assertThat(ordinals(new FeeBetween(new BigDecimal("40"), null))).containsExactly(3);
+    }
+
+    @Test
+    void countsLeaveOutTheClausesOfTheirOwnFacet() {
+        Criterion criterion = new All(List.of(
+            new FacetIn(Facet.SPORT, List.of("2"), false),
+            new FacetIn(Facet.COUNTRY, List.of("spain"), false)));
+
+        Map<Facet, List<FacetCount>> counts = catalog.countAll(criterion, null);
+
+        // * Sports of the Spanish events, countries of the karate events
+        assertThat(counts.get(Facet.SPORT)).containsExactly(
+            new FacetCount("2", "Karate", 2), new FacetCount("1", "Judo", 1));
+        assertThat(counts.get(Facet.COUNTRY)).containsExactly(new FacetCount("spain", "Spain", 2));
+        assertThat(counts.get(Facet.STATUS)).containsExactly(new FacetCount("PLANNED", "PLANNED", 2));
+        assertThat(counts.get(Facet.CITY)).containsExactly(new FacetCount("valencia", "Valencia", 2));
+    }
+
+    @Test
+    void countsAreRestrictedToTheGivenEvents() {
+        Map<Facet, List<FacetCount>> counts = catalog.countAll(null, RoaringBitmap.bitmapOf(0, 2));
+
+        assertThat(counts.get(Facet.SPORT)).containsExactly(new FacetCount("1", "Judo", 2));
+        assertThat(counts.get(Facet.COUNTRY)).extracting(FacetCount::label).containsExactly("Portugal", "Spain");
+    }
+
+    @Test
+    void countsMostFrequentFirstThenByLabel() {
+        assertThat(catalog.count(Facet.SPORT, RoaringBitmap.bitmapOf(0, 1, 2, 3, 4))).containsExactly(
+            new FacetCount("1", "Judo", 2), new FacetCount("2", "Karate", 2), new FacetCount("3", "Taekwondo", 1));
+    }
+
+    @Test
+    void removedEventsLeaveEveryBitmap() {
+        catalog.remove(3, event(4L, TAEKWONDO, EventStatus.COMPLETED, "France", "Paris", LocalDate.of(2025, 5, 20), new BigDecimal("50")));
+
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(ordinals(new FacetIn(Facet.SPORT, List.of("3"), false))).isEmpty();
+        assertThat(ordinals(new FeeBetween(new BigDecimal("40"), null))).isEmpty();
+        assertThat(catalog.countAll(null, null).get(Facet.COUNTRY)).extracting(FacetCount::label).containsExactly("Spain", "Portugal");
+    }
+
+    private int[] ordinals(Criterion criterion) {
+        return catalog.matching(criterion).toArray();
+    }
+
+    private static EventView event(Long id, SportResponseDTO sport, EventStatus status, String country, String city,
+            LocalDate start, BigDecimal fee) {
+        return new EventView(id, null, sport, "Event " + id, null, start.atTime(10, 0), start.atTime(18, 0),
+            status, country, city, null, null, null, fee);
+    }
+}
@@ -0,0 +1,157 @@
+package com.jgl.TappedOut.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jgl.TappedOut.dto.EventView;
+import com.jgl.TappedOut.dto.SportResponseDTO;
+import com.jgl.TappedOut.models.EventStatus;
+import com.jgl.TappedOut.repositories.EventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Matching and ranking of {@link EventSearchIndex}, and the writes made while it is rebuilt
+ *
+ * ? The repository is a mock reading the rows of a map, so a test changes the
+ * ? "database" by changing the map
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+class EventSearchIndexTests {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private final Map<Long, EventView> rows = new ConcurrentHashMap<>();
+
+    private EventRepository eventRepo;
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        save(event(1L, "Open Judo", "Competición abierta", "Madrid", START.plusDays(3)));
+        save(event(2L, "Summer Cup", "Torneo de judo y jiu-jitsu", "Sevilla", START.plusDays(1)));
+        save(event(3L, "Judoka Masters", "Veteranos", "Bilbao", START.plusDays(4)));
+        save(event(4L, "Campeonato de España", "Kata y kumite", "Málaga", START.plusDays(2)));
+
+        eventRepo = mock(EventRepository.class);
+        doAnswer(invocation -> List.copyOf(rows.values())).when(eventRepo).findAllViews();
+        doAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        }).when(eventRepo).findViewsByIdIn(anyCollection());
+
+        index = new EventSearchIndex();
+        ReflectionTestUtils.setField(index, "eventRepo", eventRepo);
+        ReflectionTestUtils.setField(index, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(index, "meterRegistry", new SimpleMeterRegistry());
+        index.init();
+    }
+
+    @Test
+    void matchesIgnoringAccentsAndCase() {
+        assertThat(ids("ESPANA")).containsExactly(4L);
+        assertThat(ids("malaga")).containsExactly(4L);
+        assertThat(ids("competicion")).containsExactly(1L);
+    }
+
+    @Test
+    void ignoresStopWordsOfTheQuery() {
+        assertThat(ids("campeonato de la españa")).containsExactly(4L);
+        assertThat(ids("de la")).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @Test
+    void matchesWordsByPrefix() {
+        assertThat(ids("camp")).containsExactly(4L);
+        assertThat(ids("bilb vet")).containsExactly(3L);
+    }
+
+    @Test
+    void requiresEveryWord() {
+        assertThat(ids("judo madrid")).containsExactly(1L);
+        assertThat(ids("judo bilbao")).containsExactly(3L);
+        assertThat(ids("judo valencia")).isEmpty();
+    }
+
+    @Test
+    void ranksNameOverPrefixOverDescription() {
+        // * Exact word in the name, then a name word starting with it, then the description
+        assertThat(ids("judo")).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void sortsByStartDateWithoutQuery() {
+        assertThat(ids(null)).containsExactly(2L, 4L, 1L, 3L);
+        assertThat(index.searchFaceted(null, null, 2).events()).extracting(EventView::id).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void replaysWritesMadeWhileRebuilding() throws Exception {
+        assertThat(ids("madrid")).containsExactly(1L);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<EventView> snapshot = List.copyOf(rows.values());
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return snapshot;
+        }).when(eventRepo).findAllViews();
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // * The previous index keeps answering while the rows are loaded
+        assertThat(ids("madrid")).containsExactly(1L);
+
+        // ? Committed after the rebuild read the rows, so missing from what it loaded
+        save(event(1L, "Open Judo", "Competición abierta", "Valencia", START.plusDays(3)));
+        save(event(5L, "Copa Sevilla", "Infantil", "Sevilla", START.plusDays(5)));
+        rows.remove(3L);
+        index.refresh(1L);
+        index.refresh(5L);
+        index.refresh(3L);
+
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(ids("valencia")).containsExactly(1L);
+        assertThat(ids("madrid")).isEmpty();
+        assertThat(ids("infantil")).containsExactly(5L);
+        assertThat(ids("veteranos")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(null, query).stream().map(EventView::id).toList();
+    }
+
+    private void save(EventView view) {
+        rows.put(view.id(), view);
+    }
+
+    private static EventView event(Long id, String name, String description, String city, LocalDateTime start) {
+        return new EventView(id, null, new SportResponseDTO(1L, "Judo"), name, description, start, start,
+            EventStatus.PLANNED, "Spain", city, null, null, null, BigDecimal.TEN);
+    }
+}
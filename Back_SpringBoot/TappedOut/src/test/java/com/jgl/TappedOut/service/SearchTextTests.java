@@ -0,0 +1,40 @@
+package com.jgl.TappedOut.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Folding and splitting of the text indexed by the search indexes
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+class SearchTextTests {
+    @Test
+    void foldRemovesAccentsAndCase() {
+        assertThat(SearchText.fold("Campeonato de ESPAÑA")).isEqualTo("campeonato de espana");
+        assertThat(SearchText.fold("Ávila Güímar Ç")).isEqualTo("avila guimar c");
+        assertThat(SearchText.fold(null)).isEmpty();
+    }
+
+    @Test
+    void tokenizeSkipsStopWords() {
+        assertThat(SearchText.tokenize("Open de la Ciudad y el Mar")).containsExactly("open", "ciudad", "mar");
+        assertThat(SearchText.tokenize("The King of the Mat")).containsExactly("king", "mat");
+        assertThat(SearchText.tokenize("de la y")).isEmpty();
+    }
+
+    @Test
+    void tokenizeSplitsOnAnythingButLettersAndDigits() {
+        assertThat(SearchText.tokenize("Judo-Club, Málaga 2025!")).containsExactly("judo", "club", "malaga", "2025");
+        assertThat(SearchText.tokenize("  ")).isEmpty();
+        assertThat(SearchText.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void wordsKeepStopWords() {
+        assertThat(SearchText.words("María de la Fuente")).containsExactly("maria", "de", "la", "fuente");
+    }
+}
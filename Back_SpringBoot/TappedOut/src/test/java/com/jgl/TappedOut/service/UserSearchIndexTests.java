@@ -0,0 +1,138 @@
+package com.jgl.TappedOut.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jgl.TappedOut.dto.UserSearchView;
+import com.jgl.TappedOut.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Matching and ranking of {@link UserSearchIndex}, and the writes made while it is rebuilt
+ *
+ * ? Writes carry the saved values, so only the rebuild reads the mocked repository
+ *
+ * @author Jorge García López
+ * @version 1.0
+ * @since 2025
+ */
+class UserSearchIndexTests {
+    private final Map<Long, UserSearchView> rows = new ConcurrentSkipListMap<>();
+
+    private UserRepository userRepo;
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        save(new UserSearchView(1L, "Ana", "García", "ana.garcia@mail.com"));
+        save(new UserSearchView(2L, "Luis", "Marcial", "lm@mail.com"));
+        save(new UserSearchView(3L, "Eva", "Martín", "eva@mail.com"));
+        save(new UserSearchView(4L, "Mar", "Pérez", "mp@mail.com"));
+        save(new UserSearchView(5L, "Rosa", "Marín Garcés", "rosa@mail.com"));
+        save(new UserSearchView(6L, "Pedro", "Ruiz", "marco.p@mail.com"));
+        save(new UserSearchView(7L, "Tomás", "Vidal", "tomas@omar.es"));
+        save(new UserSearchView(8L, "Marco", "Ercilla", "me@mail.com"));
+
+        userRepo = mock(UserRepository.class);
+        doAnswer(invocation -> List.copyOf(rows.values())).when(userRepo).findAllSearchViews();
+
+        index = new UserSearchIndex();
+        ReflectionTestUtils.setField(index, "userRepo", userRepo);
+        ReflectionTestUtils.setField(index, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(index, "meterRegistry", new SimpleMeterRegistry());
+        index.init();
+    }
+
+    @Test
+    void findsWordsContainingTheText() {
+        // * "marco ercilla" has every trigram of "arci", but not in one word
+        assertThat(index.search("arci", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("rcil", 10)).containsExactly(8L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksExactNameOverPrefixOverEmailOverContains() {
+        // * Name prefixes ordered by the length of the full name
+        assertThat(index.search("mar", 10)).containsExactly(4L, 3L, 2L, 8L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void keepsOnlyTheBestMatches() {
+        assertThat(index.search("mar", 3)).containsExactly(4L, 3L, 2L);
+        assertThat(index.search("mar", 1)).containsExactly(4L);
+    }
+
+    @Test
+    void requiresEveryWordIgnoringAccentsAndCase() {
+        assertThat(index.search("ANA gar", 10)).containsExactly(1L);
+        assertThat(index.search("perez", 10)).containsExactly(4L);
+        assertThat(index.search("garces rosa", 10)).containsExactly(5L);
+        assertThat(index.search("ana perez", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void appliesWritesAfterBuilt() {
+        assertThat(index.search("perez", 10)).containsExactly(4L);
+
+        index.put(4L, "Mar", "Sánchez", "mp@mail.com");
+        index.remove(1L);
+
+        assertThat(index.search("perez", 10)).isEmpty();
+        assertThat(index.search("sanchez", 10)).containsExactly(4L);
+        assertThat(index.search("arci", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void replaysWritesMadeWhileRebuilding() throws Exception {
+        assertThat(index.search("perez", 10)).containsExactly(4L);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<UserSearchView> snapshot = List.copyOf(rows.values());
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return snapshot;
+        }).when(userRepo).findAllSearchViews();
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // * The previous index keeps answering while the rows are loaded
+        assertThat(index.search("perez", 10)).containsExactly(4L);
+
+        // ? Committed after the rebuild read the rows, so missing from what it loaded
+        index.put(9L, "Nuria", "Vega", "nv@mail.com");
+        index.put(4L, "Mar", "Sánchez", "mp@mail.com");
+        index.remove(3L);
+
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(index.search("nuria", 10)).containsExactly(9L);
+        assertThat(index.search("perez", 10)).isEmpty();
+        assertThat(index.search("sanchez", 10)).containsExactly(4L);
+        assertThat(index.search("eva", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(8);
+    }
+
+    private void save(UserSearchView view) {
+        rows.put(view.id(), view);
+    }
+}